@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.seowon"
@@ -24,19 +25,61 @@ repositories {
 	mavenCentral()
 }
 
+// 부하 테스트: ./gradlew loadTest -Ploadtest.clients=64 -Ploadtest.rate=1000 -Ploadtest.duration=60s
+// 같은 Tomcat thread 수에서 동기/비동기 비교: -Ploadtest.serverThreads=16 -Ploadtest.async=false (또는 true)
+val loadTest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
+	systemProperty("orders.totals.verify", "true")
+}
+
+jmh {
+	resultFormat = "JSON"
+}
+
+// 같은 Tomcat thread 수에서 동기/비동기 비교: ./gradlew loadTest -Ploadtest.compareAsync=true -Ploadtest.serverThreads=8
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Boots the app on H2, seeds data and drives a mixed HTTP workload"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.seowon.coding.loadtest.LoadTestRunner"
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+	jvmArgs("-Xms1g", "-Xmx1g")
+}
+
+// 권한 인덱스 heap 사용량 비교: ./gradlew permissionMemoryReport -Pusers=1000000
+tasks.register<JavaExec>("permissionMemoryReport") {
+	group = "verification"
+	description = "Compares heap usage of the permission index against the per-user map layout"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "com.seowon.coding.domain.model.PermissionIndexMemoryReport"
+	args(project.findProperty("users")?.toString() ?: "1000000")
+	jvmArgs("-Xmx2g")
 }
@@ -0,0 +1,87 @@
+package com.seowon.coding.config.metrics;
+
+import com.seowon.coding.config.LatencyHistogramProperties;
+import com.seowon.coding.config.QueryBudgetProperties;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 계측의 고정 비용 (목표: checkout 한 건(ms 단위) 대비 1% 미만)
+ * - serviceCall: @Timed service 메소드 호출 (TimedAspect 프록시 vs 직접 호출, histogram 대상 메소드 기준)
+ * - recordRequest: 요청 종료 시 SQL 문 / repository 호출 수 기록 (meter 캐시 적중)
+ * - inspectStatement: SQL 문마다 실행되는 StatementInspector (샘플링 꺼짐)
+ * ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+
+    private BenchService plain;
+    private BenchService timed;
+    private RequestMetricsFilter filter;
+    private RequestStatistics stats;
+    private StatementCountingInspector inspector;
+    private long input;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LatencyHistogramProperties histograms = new LatencyHistogramProperties();
+        histograms.getUris().add("/api/orders/checkout");
+        // TimedAspect 의 class 태그는 binary name (중첩 클래스는 $ 포함)
+        histograms.getServiceMethods().add("MetricsOverheadBenchmark$BenchService.work");
+        registry.config().meterFilter(new LatencyHistogramFilter(histograms));
+
+        plain = new BenchService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new BenchService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TimedAspect(registry));
+        timed = factory.getProxy();
+
+        filter = new RequestMetricsFilter(registry, new QueryBudgetProperties());
+        stats = RequestStatistics.begin();
+        inspector = new StatementCountingInspector(registry, 0.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestStatistics.end();
+    }
+
+    @Benchmark
+    public long serviceCall_plain() {
+        return plain.work(input++);
+    }
+
+    @Benchmark
+    public long serviceCall_timed() {
+        return timed.work(input++);
+    }
+
+    @Benchmark
+    public void recordRequest() {
+        filter.record("POST", "/api/orders/checkout", stats);
+    }
+
+    @Benchmark
+    public String inspectStatement() {
+        return inspector.inspect("select p.id from product p where p.id = ?");
+    }
+
+    @Timed(value = "service.method")
+    public static class BenchService {
+
+        public long work(long value) {
+            return Long.rotateLeft(value * 0x9E3779B97F4A7C15L, 17);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.seowon.coding.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 수 / parallelism 별 PermissionIndex.compile 시간 (parallelism 0 = 전체 core)
+ * ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PermissionCompileBenchmark {
+
+    @Param({"100000", "1000000"})
+    int users;
+
+    @Param({"1", "4", "0"})
+    int parallelism;
+
+    private List<User> userList;
+    private List<UserGroup> groupList;
+    private List<Policy> policyList;
+
+    @Setup
+    public void setUp() {
+        int groups = Math.max(10, users / 100);
+        int policies = groups * 2;
+        policyList = new ArrayList<>(policies);
+        for (int p = 0; p < policies; p++) {
+            policyList.add(new Policy("policy" + p, List.of(Statement.builder()
+                    .actions(List.of("read", p % 2 == 0 ? "write" : "export"))
+                    .resources(List.of("orders", "resource" + p))
+                    .build())));
+        }
+        groupList = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            groupList.add(new UserGroup("group" + g, List.of("policy" + (2 * g), "policy" + (2 * g + 1))));
+        }
+        // 그룹 조합이 사용자마다 달라지도록 (u, u * 7, u * 13) 조합 사용
+        userList = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            userList.add(new User("user" + u, List.of(
+                    "group" + (u % groups), "group" + ((u * 7) % groups), "group" + ((u * 13) % groups))));
+        }
+    }
+
+    @Benchmark
+    public PermissionIndex compile() {
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        return PermissionIndex.compile(userList, groupList, policyList, threads);
+    }
+}
@@ -0,0 +1,104 @@
+package com.seowon.coding.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목표: 요청당 권한 판정 10µs 미만 (isAllowed 는 수십 ns 수준이어야 함)
+ * ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermissionIndexBenchmark {
+
+    @Param({"1000", "10000"})
+    int users;
+
+    private List<User> userList;
+    private List<UserGroup> groupList;
+    private List<Policy> policyList;
+    private PermissionIndex index;
+    private PermissionIndex snapshotIndex;
+    private long fingerprint;
+    private String lastUser;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        int groups = Math.max(10, users / 10);
+        int policies = groups * 2;
+        policyList = new ArrayList<>(policies);
+        for (int p = 0; p < policies; p++) {
+            policyList.add(new Policy("policy" + p, List.of(Statement.builder()
+                    .actions(List.of("read", p % 2 == 0 ? "write" : "export"))
+                    .resources(List.of("orders", "resource" + p))
+                    .build())));
+        }
+        groupList = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            groupList.add(new UserGroup("group" + g, List.of("policy" + (2 * g), "policy" + (2 * g + 1))));
+        }
+        userList = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            userList.add(new User("user" + u, List.of("group" + (u % groups), "group" + ((u * 7) % groups))));
+        }
+        lastUser = "user" + (users - 1);
+        index = PermissionIndex.compile(userList, groupList, policyList);
+        snapshot = Files.createTempFile("permissions", ".snapshot");
+        fingerprint = PermissionSnapshot.fingerprint(userList, groupList, policyList);
+        PermissionSnapshot.write(index, fingerprint, snapshot);
+        snapshotIndex = PermissionSnapshot.read(snapshot, fingerprint).orElseThrow();
+    }
+
+    @TearDown
+    public void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public boolean indexAllowed() {
+        return index.isAllowed(lastUser, "read", "orders");
+    }
+
+    // mmap 스냅샷을 heap 으로 복사하지 않고 바로 조회
+    @Benchmark
+    public boolean snapshotAllowed() {
+        return snapshotIndex.isAllowed(lastUser, "read", "orders");
+    }
+
+    @Benchmark
+    public boolean indexDenied() {
+        return index.isAllowed(lastUser, "delete", "orders");
+    }
+
+    // index 없이 원본 목록을 한 번씩 탐색하는 방식과 비교용
+    @Benchmark
+    public boolean hasPermission() {
+        return PermissionChecker.hasPermission(lastUser, "orders", "read", userList, groupList, policyList);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PermissionIndex compile() {
+        return PermissionIndex.compile(userList, groupList, policyList);
+    }
+
+    // 기동 시 compile 대신 스냅샷을 읽는 경로 (version 키처럼 fingerprint 는 미리 계산된 경우)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PermissionIndex loadSnapshot() throws IOException {
+        return PermissionSnapshot.read(snapshot, fingerprint).orElseThrow();
+    }
+}
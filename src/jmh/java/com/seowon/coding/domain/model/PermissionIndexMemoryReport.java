@@ -0,0 +1,100 @@
+package com.seowon.coding.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 Map/Set<String> 구조(이전 방식) 와 int id 기반 PermissionIndex 의 heap 사용량 비교
+ * ./gradlew permissionMemoryReport -Pusers=1000000
+ */
+public class PermissionIndexMemoryReport {
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int groups = Math.max(10, users / 1000);
+        int policies = groups * 2;
+
+        List<Policy> policyList = new ArrayList<>(policies);
+        for (int p = 0; p < policies; p++) {
+            policyList.add(new Policy("policy" + p, List.of(Statement.builder()
+                    .actions(List.of("read", p % 2 == 0 ? "write" : "export"))
+                    .resources(List.of("orders", "resource" + (p % 50)))
+                    .build())));
+        }
+        List<UserGroup> groupList = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            groupList.add(new UserGroup("group" + g, List.of("policy" + (2 * g), "policy" + (2 * g + 1))));
+        }
+        List<User> userList = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            userList.add(new User("user" + u, List.of("group" + (u % groups))));
+        }
+
+        long base = usedHeap();
+        Map<String, Map<String, Set<String>>> legacy = legacyCompile(userList, groupList, policyList);
+        long legacyBytes = usedHeap() - base;
+        int legacyUsers = legacy.size();
+        legacy = null;
+
+        // 측정값은 원본 모델과 공유하는 사용자 id 문자열을 제외한 증가분 (추정치는 포함)
+        base = usedHeap();
+        long started = System.nanoTime();
+        PermissionIndex index = PermissionIndex.compile(userList, groupList, policyList);
+        long compileMillis = (System.nanoTime() - started) / 1_000_000;
+        long indexBytes = usedHeap() - base;
+
+        System.out.printf("users=%d groups=%d policies=%d%n", users, groups, policies);
+        System.out.printf("legacy map/set layout : %,d bytes (%d users)%n", legacyBytes, legacyUsers);
+        System.out.printf("PermissionIndex       : %,d bytes measured, %,d bytes estimated (%d grant sets, compile %d ms)%n",
+                indexBytes, index.estimatedBytes(), index.grantSetCount(), compileMillis);
+        System.out.printf("bytes per user        : %.1f -> %.1f%n",
+                (double) legacyBytes / users, (double) indexBytes / users);
+    }
+
+    // 이전 PermissionIndex.compile 과 같은 구조: 사용자마다 HashMap<action, HashSet<resource>> 복사본
+    private static Map<String, Map<String, Set<String>>> legacyCompile(List<User> users, List<UserGroup> groups,
+                                                                       List<Policy> policies) {
+        Map<String, Map<String, Set<String>>> byPolicy = new HashMap<>();
+        for (Policy policy : policies) {
+            Map<String, Set<String>> actions = byPolicy.computeIfAbsent(policy.id, id -> new HashMap<>());
+            for (Statement statement : policy.statements) {
+                for (String action : statement.actions) {
+                    actions.computeIfAbsent(action, a -> new HashSet<>()).addAll(statement.resources);
+                }
+            }
+        }
+        Map<String, Map<String, Set<String>>> byGroup = new HashMap<>();
+        for (UserGroup group : groups) {
+            Map<String, Set<String>> actions = byGroup.computeIfAbsent(group.id, id -> new HashMap<>());
+            for (String policyId : group.policyIds) {
+                merge(actions, byPolicy.get(policyId));
+            }
+        }
+        Map<String, Map<String, Set<String>>> byUser = new HashMap<>();
+        for (User user : users) {
+            Map<String, Set<String>> actions = byUser.computeIfAbsent(user.id, id -> new HashMap<>());
+            for (String groupId : user.groupIds) {
+                merge(actions, byGroup.get(groupId));
+            }
+        }
+        return byUser;
+    }
+
+    private static void merge(Map<String, Set<String>> target, Map<String, Set<String>> source) {
+        if (source != null) {
+            source.forEach((action, resources) -> target.computeIfAbsent(action, a -> new HashSet<>()).addAll(resources));
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.CodingApplication;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 프로파일(show-sql, format_sql)과 perf 프로파일의 checkout 처리량 비교 (로컬 H2)
+ * 프로파일별로 fork 가 분리되어 각자 새 in-memory DB 에서 실행됨
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceProfileBenchmark {
+
+    @Param({"default", "perf"})
+    String profile;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private List<OrderProduct> lines;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CodingApplication.class)
+                .profiles(profile)
+                .properties("server.port=0")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            products.add(Product.builder()
+                    .name("Bench Product " + i)
+                    .price(BigDecimal.valueOf(10 + i))
+                    .stockQuantity(Integer.MAX_VALUE)
+                    .category("Books")
+                    .build());
+        }
+        lines = productRepository.saveAll(products).stream()
+                .map(p -> new OrderProduct(p.getId(), 1))
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order checkout() {
+        return orderService.checkoutOrder("Bench", "bench@example.com", lines, null);
+    }
+}
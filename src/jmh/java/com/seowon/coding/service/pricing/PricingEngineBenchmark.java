@@ -0,0 +1,53 @@
+package com.seowon.coding.service.pricing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목표: 단일 스레드 100k quotes/s 이상
+ * ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingEngineBenchmark {
+
+    @Param({"5", "50"})
+    int lines;
+
+    private PricingEngine engine;
+    private Cart cart;
+    private List<Cart> carts;
+
+    @Setup
+    public void setUp() {
+        engine = PricingEngine.defaults();
+        List<PricingLine> cartLines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            cartLines.add(new PricingLine(new BigDecimal("19.99"), i % 3 + 1, i % 2 == 0 ? "Books" : "Electronics"));
+        }
+        cart = new Cart(cartLines, "SALE10");
+        carts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            carts.add(new Cart(cartLines, i % 2 == 0 ? "SALE10" : null));
+        }
+    }
+
+    @Benchmark
+    public Quote quote() {
+        return engine.quote(cart);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<Quote> quoteAll() {
+        return engine.quoteAll(carts);
+    }
+}
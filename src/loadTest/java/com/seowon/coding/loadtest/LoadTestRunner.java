@@ -0,0 +1,340 @@
+package com.seowon.coding.loadtest;
+
+import com.seowon.coding.CodingApplication;
+import com.seowon.coding.domain.dto.CheckoutRequestDTO;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.BatchOrderService;
+import com.seowon.coding.service.OrderProduct;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 앱을 H2 로 띄우고 카탈로그/주문을 적재한 뒤, 여러 클라이언트로 browse/history/checkout/bulkPrice 혼합 부하를 줌
+ * 작업별 처리량과 지연 분포(HdrHistogram)를 출력하고 .hgrm 파일로 저장 (릴리스 간 비교용)
+ * - 요청은 목표 처리량(loadtest.rate)에 맞춰 미리 정한 시각에 보내고, 지연은 실제 전송 시각이 아니라 예정 시각부터 측정
+ *   (서버가 느려져 요청이 밀린 시간도 지연에 포함: coordinated omission 방지)
+ * - history 는 로그인한 사용자 본인의 이력만 조회 가능하므로 시드 주문 일부를 로그인 사용자 이름으로 생성
+ * - 적응형 동시성 제한은 기본으로 끔 (켜면 limiter 의 503 이 오류로 집계되어 서버 처리 능력 비교가 왜곡됨)
+ * - loadtest.compareAsync=true 이면 같은 Tomcat thread 수로 동기 / 비동기를 차례로 실행해 작업별 처리량과 p99 를 비교
+ *   (비동기 쪽은 checkout 을 orders.async.checkout.threads 크기 pool 에서 실행하므로 그 thread 수도 함께 출력)
+ */
+public class LoadTestRunner {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_CHUNK = 1_000;
+
+    private final LoadTestSettings settings;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final HttpClient httpClient;
+    private final String authorization;
+    private final int[] cumulativeWeights;
+    private final Operation[] weightedOperations;
+    private String baseUrl;
+    private String checkoutThreads;
+    private List<Long> productIds;
+
+    public LoadTestRunner(LoadTestSettings settings) {
+        if (settings.rate() <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive: " + settings.rate());
+        }
+        this.settings = settings;
+        for (Operation op : Operation.values()) {
+            histograms.put(op, new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.put(op, new AtomicLong());
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(4, settings.clients() / 4)))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((settings.user() + ":" + settings.password()).getBytes(StandardCharsets.UTF_8));
+        this.weightedOperations = settings.mix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[weightedOperations.length];
+        int total = 0;
+        for (int i = 0; i < weightedOperations.length; i++) {
+            total += settings.mix().get(weightedOperations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (!settings.compareAsync()) {
+            runOnce(settings);
+            System.exit(0);
+        }
+        if (settings.serverThreads() <= 0) {
+            throw new IllegalArgumentException("loadtest.compareAsync requires loadtest.serverThreads");
+        }
+        LoadTestRunner sync = runOnce(settings.withAsync(false));
+        LoadTestRunner async = runOnce(settings.withAsync(true));
+        compare(settings, sync, async);
+        System.exit(0);
+    }
+
+    private static LoadTestRunner runOnce(LoadTestSettings settings) throws Exception {
+        // 명령행 인자는 application.yaml 보다 우선함
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.profiles.active=" + settings.profile(),
+                "--spring.jpa.show-sql=" + !"perf".equals(settings.profile()),
+                "--load-shedding.rate-limit.enabled=" + settings.rateLimit(),
+                "--load-shedding.concurrency.enabled=" + settings.concurrencyLimit(),
+                "--orders.async.enabled=" + settings.async(),
+                "--spring.security.user.name=" + settings.user(),
+                "--spring.security.user.password=" + settings.password()));
+        if (settings.serverThreads() > 0) {
+            appArgs.add("--server.tomcat.threads.max=" + settings.serverThreads());
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodingApplication.class).run(appArgs.toArray(String[]::new))) {
+            LoadTestRunner runner = new LoadTestRunner(settings);
+            runner.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            runner.checkoutThreads = context.getEnvironment().getProperty("orders.async.checkout.threads", "default");
+            runner.seed(context);
+            runner.run();
+            runner.report();
+            return runner;
+        }
+    }
+
+    private static void compare(LoadTestSettings settings, LoadTestRunner sync, LoadTestRunner async) throws IOException {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        StringBuilder comparison = new StringBuilder();
+        comparison.append(String.format("serverThreads=%d clients=%d rate=%.0f/s concurrencyLimit=%s rateLimit=%s asyncCheckoutThreads=%s%n",
+                settings.serverThreads(), settings.clients(), settings.rate(), settings.concurrencyLimit(),
+                settings.rateLimit(), async.checkoutThreads));
+        comparison.append(String.format("%-10s %12s %12s %10s %10s %10s %10s%n",
+                "operation", "sync ops/s", "async ops/s", "sync err", "async err", "sync p99", "async p99"));
+        for (Operation op : sync.weightedOperations) {
+            Histogram s = sync.histograms.get(op);
+            Histogram a = async.histograms.get(op);
+            comparison.append(String.format("%-10s %12.1f %12.1f %10d %10d %10.2f %10.2f%n",
+                    op.displayName(), s.getTotalCount() / seconds, a.getTotalCount() / seconds,
+                    sync.errors.get(op).get(), async.errors.get(op).get(),
+                    millis(s.getValueAtPercentile(99)), millis(a.getValueAtPercentile(99))));
+        }
+        System.out.print(comparison);
+        Path file = Path.of(settings.outputDir(),
+                "compare-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, comparison);
+        System.out.println("Sync/async comparison written to " + file.toAbsolutePath());
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        long start = System.nanoTime();
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>(settings.products());
+        String[] categories = {"Books", "Electronics", "Home", "Toys", "Food"};
+        for (int i = 0; i < settings.products(); i++) {
+            products.add(Product.builder()
+                    .name("Load Product " + i)
+                    .description("seeded by load test")
+                    .price(BigDecimal.valueOf(5 + (i % 200)))
+                    .stockQuantity(1_000_000_000)
+                    .category(categories[i % categories.length])
+                    .build());
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+
+        BatchOrderService batchOrderService = context.getBean(BatchOrderService.class);
+        for (int offset = 0; offset < settings.seedOrders(); offset += SEED_CHUNK) {
+            int size = Math.min(SEED_CHUNK, settings.seedOrders() - offset);
+            List<CheckoutRequestDTO> chunk = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                chunk.add(randomCheckout(offset + i));
+            }
+            batchOrderService.createOrders(chunk);
+        }
+        System.out.printf("Seeded %d products and %d orders in %d ms%n", settings.products(), settings.seedOrders(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+        // 클라이언트마다 clients / rate 간격으로 요청을 예약. 응답이 늦으면 밀린 요청은 바로 이어서 보냄
+        long interval = (long) (settings.clients() * 1_000_000_000.0 / settings.rate());
+        ExecutorService clients = Executors.newFixedThreadPool(settings.clients());
+        for (int i = 0; i < settings.clients(); i++) {
+            clients.submit(() -> {
+                long intended = System.nanoTime() + ThreadLocalRandom.current().nextLong(interval);
+                while (intended < end && !Thread.currentThread().isInterrupted()) {
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    execute(pickOperation(), intended, intended >= warmupEnd);
+                    intended += interval;
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(settings.warmup().plus(settings.duration()).toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private void execute(Operation op, long intendedStart, boolean measured) {
+        int status;
+        try {
+            status = httpClient.send(request(op), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException | RuntimeException e) {
+            // 연결 실패/timeout 등은 오류로 세고 다음 요청을 계속 보냄
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latency = System.nanoTime() - intendedStart;
+        if (!measured) {
+            return;
+        }
+        if (status >= 200 && status < 300) {
+            histograms.get(op).recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+        } else {
+            errors.get(op).incrementAndGet();
+        }
+    }
+
+    private HttpRequest request(Operation op) {
+        return switch (op) {
+            case BROWSE -> get("/api/products/" + randomProductId());
+            case HISTORY -> get("/api/orders/history");
+            case CHECKOUT -> post("/api/orders/checkout", checkoutJson(randomCheckout(ThreadLocalRandom.current().nextInt())));
+            case BULK_PRICE -> post("/api/products/bulk-price", bulkPriceJson());
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private CheckoutRequestDTO randomCheckout(int seed) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int lines = 1 + random.nextInt(5);
+        List<OrderProduct> products = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            products.add(new OrderProduct(randomProductId(), 1 + random.nextInt(3)));
+        }
+        int customer = Math.floorMod(seed, settings.customers());
+        return new CheckoutRequestDTO("Customer " + customer, customerEmail(customer), products,
+                random.nextInt(10) == 0 ? "SALE10" : null);
+    }
+
+    private static String checkoutJson(CheckoutRequestDTO request) {
+        String products = request.getProducts().stream()
+                .map(p -> "{\"productId\":" + p.getProductId() + ",\"quantity\":" + p.getQuantity() + "}")
+                .collect(Collectors.joining(","));
+        return "{\"customerName\":\"" + request.getCustomerName() + "\","
+                + "\"customerEmail\":\"" + request.getCustomerEmail() + "\","
+                + "\"products\":[" + products + "],"
+                + "\"couponCode\":" + (request.getCouponCode() == null ? "null" : "\"" + request.getCouponCode() + "\"")
+                + "}";
+    }
+
+    private String bulkPriceJson() {
+        String ids = ThreadLocalRandom.current().ints(20, 0, productIds.size())
+                .mapToObj(i -> String.valueOf(productIds.get(i)))
+                .distinct()
+                .collect(Collectors.joining(","));
+        // 가격이 한 방향으로 계속 움직이지 않도록 +1% / -1% 번갈아
+        long percentage = ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+        return "{\"productIds\":[" + ids + "],\"percentage\":" + percentage + ",\"includeTax\":false}";
+    }
+
+    private Operation pickOperation() {
+        int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return weightedOperations[i];
+            }
+        }
+        return weightedOperations[weightedOperations.length - 1];
+    }
+
+    private long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    // 0 번 고객은 로그인 사용자 (history 대상)
+    private String customerEmail(int customer) {
+        return customer == 0 ? settings.user() : "customer" + customer + "@example.com";
+    }
+
+    private void report() throws IOException {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        Path dir = Path.of(settings.outputDir(),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(dir);
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("profile=%s clients=%d rate=%.0f/s duration=%s products=%d seedOrders=%d mix=%s serverThreads=%s async=%s concurrencyLimit=%s%n",
+                settings.profile(), settings.clients(), settings.rate(), settings.duration(), settings.products(),
+                settings.seedOrders(), settings.mix(),
+                settings.serverThreads() > 0 ? settings.serverThreads() : "default", settings.async(),
+                settings.concurrencyLimit()));
+        summary.append(String.format("%-10s %10s %10s %8s %8s %8s %8s %8s %8s%n",
+                "operation", "count", "ops/s", "errors", "p50ms", "p90ms", "p99ms", "p99.9ms", "maxms"));
+        for (Operation op : weightedOperations) {
+            Histogram h = histograms.get(op);
+            summary.append(String.format("%-10s %10d %10.1f %8d %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    op.displayName(), h.getTotalCount(), h.getTotalCount() / seconds, errors.get(op).get(),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue())));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(op.displayName() + ".hgrm")))) {
+                h.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        System.out.print(summary);
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        System.out.println("Latency distributions written to " + dir.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.seowon.coding.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * -Dloadtest.* (gradle: -Ploadtest.*) 설정
+ */
+record LoadTestSettings(
+        String profile,
+        int products,
+        int customers,
+        int seedOrders,
+        int clients,
+        // 전체 목표 처리량 (ops/s). 응답을 기다리지 않고 이 간격으로 요청을 예약 (open-loop)
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        boolean rateLimit,
+        // 적응형 동시성 제한(load-shedding.concurrency). 처리량 비교 시 limiter 가 먼저 요청을 거절하지 않도록 기본은 끔
+        boolean concurrencyLimit,
+        // 0 이면 Tomcat 기본값. async 와 함께 같은 thread 수에서 동기/비동기 처리량 비교용
+        int serverThreads,
+        boolean async,
+        // 같은 설정으로 동기 -> 비동기를 차례로 실행하고 비교표 출력 (serverThreads 지정 필요)
+        boolean compareAsync,
+        String user,
+        // 지정하지 않으면 실행마다 임의로 생성해 띄우는 앱에 설정
+        String password,
+        String outputDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.profile", "default"),
+                Integer.getInteger("loadtest.products", 1_000),
+                Integer.getInteger("loadtest.customers", 1_000),
+                Integer.getInteger("loadtest.seedOrders", 20_000),
+                Integer.getInteger("loadtest.clients", 64),
+                Double.parseDouble(System.getProperty("loadtest.rate", "1000")),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s")),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s")),
+                parseMix(System.getProperty("loadtest.mix", "browse:60,history:20,checkout:18,bulkPrice:2")),
+                Boolean.parseBoolean(System.getProperty("loadtest.rateLimit", "false")),
+                Boolean.parseBoolean(System.getProperty("loadtest.concurrencyLimit", "false")),
+                Integer.getInteger("loadtest.serverThreads", 0),
+                Boolean.parseBoolean(System.getProperty("loadtest.async", "true")),
+                Boolean.parseBoolean(System.getProperty("loadtest.compareAsync", "false")),
+                System.getProperty("loadtest.user", "admin"),
+                System.getProperty("loadtest.password", UUID.randomUUID().toString()),
+                System.getProperty("loadtest.outputDir", "build/reports/loadtest"));
+    }
+
+    LoadTestSettings withAsync(boolean async) {
+        return new LoadTestSettings(profile, products, customers, seedOrders, clients, rate, warmup, duration, mix,
+                rateLimit, concurrencyLimit, serverThreads, async, compareAsync, user, password, outputDir);
+    }
+
+    // "browse:60,checkout:40" -> 가중치
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.fromName(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
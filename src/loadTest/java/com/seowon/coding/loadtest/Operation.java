@@ -0,0 +1,27 @@
+package com.seowon.coding.loadtest;
+
+import java.util.Arrays;
+
+enum Operation {
+    BROWSE("browse"),
+    HISTORY("history"),
+    CHECKOUT("checkout"),
+    BULK_PRICE("bulkPrice");
+
+    private final String displayName;
+
+    Operation(String displayName) {
+        this.displayName = displayName;
+    }
+
+    String displayName() {
+        return displayName;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(op -> op.displayName.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unknown operation: " + name));
+    }
+}
@@ -0,0 +1,136 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PermissionDecision;
+import com.seowon.coding.domain.model.PermissionExplainer;
+import com.seowon.coding.domain.model.PermissionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청을 (principal, action, resource) 로 바꿔 PermissionIndex 로 판정
+ * action 은 read / write, 운영용 경로(ADMIN_PATHS)는 admin
+ * 판정 시간은 authz.decision 타이머(outcome=allow|deny)로 기록
+ * explain 이 켜져 있으면 sampleRate 비율의 요청만 판정 근거를 추적해 로그로 남기고
+ * 그 판정 시간을 authz.decision.sampled 히스토그램에 기록 (샘플링되지 않은 요청은 추가 할당 없음)
+ */
+@Slf4j
+public class ApiPermissionAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+    // 운영용 작업 (롤업 재계산, 대량 취소, 상품 캐시 비우기). write 권한만으로는 허용하지 않음
+    static final String ADMIN = "admin";
+    private static final String API_PREFIX = "/api/";
+    private static final Set<String> ADMIN_PATHS = Set.of(
+            "/api/orders/analytics/rebuild",
+            "/api/orders/bulk-cancel",
+            "/api/products/cache");
+
+    private final PermissionIndex permissionIndex;
+    private final Timer allowTimer;
+    private final Timer denyTimer;
+    // null 이면 explain 비활성
+    private final PermissionExplainer explainer;
+    private final double explainSampleRate;
+    private final Timer sampledAllowTimer;
+    private final Timer sampledDenyTimer;
+
+    public ApiPermissionAuthorizationManager(PermissionIndex permissionIndex, MeterRegistry meterRegistry) {
+        this(permissionIndex, meterRegistry, null, 0);
+    }
+
+    public ApiPermissionAuthorizationManager(PermissionIndex permissionIndex, MeterRegistry meterRegistry,
+                                             PermissionExplainer explainer, double explainSampleRate) {
+        if (explainSampleRate < 0 || explainSampleRate > 1) {
+            throw new IllegalArgumentException("explainSampleRate must be within [0, 1]: " + explainSampleRate);
+        }
+        this.permissionIndex = permissionIndex;
+        this.allowTimer = Timer.builder("authz.decision").tag("outcome", "allow").register(meterRegistry);
+        this.denyTimer = Timer.builder("authz.decision").tag("outcome", "deny").register(meterRegistry);
+        this.explainer = explainSampleRate > 0 ? explainer : null;
+        this.explainSampleRate = explainSampleRate;
+        this.sampledAllowTimer = this.explainer == null ? null : sampledTimer(meterRegistry, "allow");
+        this.sampledDenyTimer = this.explainer == null ? null : sampledTimer(meterRegistry, "deny");
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        long start = System.nanoTime();
+        Authentication current = authentication.get();
+        boolean granted = decide(current, context.getRequest());
+        long elapsed = System.nanoTime() - start;
+        (granted ? allowTimer : denyTimer).record(elapsed, TimeUnit.NANOSECONDS);
+        if (explainer != null && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+            explainSampled(current, context.getRequest(), granted, elapsed);
+        }
+        return new AuthorizationDecision(granted);
+    }
+
+    private void explainSampled(Authentication authentication, HttpServletRequest request, boolean granted, long elapsedNanos) {
+        (granted ? sampledAllowTimer : sampledDenyTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        String resource = resourceOf(request);
+        if (authentication == null || !authentication.isAuthenticated() || resource == null) {
+            log.info("Sampled authorization: deny {} {}: unauthenticated or not an API resource",
+                    request.getMethod(), request.getRequestURI());
+            return;
+        }
+        PermissionDecision decision = explainer.explain(authentication.getName(), actionOf(request), resource);
+        if (decision.isAllowed() != granted) {
+            log.warn("Sampled authorization mismatch: index={} explain={}", granted ? "allow" : "deny", decision);
+        } else if (granted) {
+            log.debug("Sampled authorization: {}", decision);
+        } else {
+            log.info("Sampled authorization: {}", decision);
+        }
+    }
+
+    private boolean decide(Authentication authentication, HttpServletRequest request) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        String resource = resourceOf(request);
+        return resource != null
+                && permissionIndex.isAllowed(authentication.getName(), actionOf(request), resource);
+    }
+
+    private static Timer sampledTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("authz.decision.sampled")
+                .description("Latency of sampled (explained) authorization decisions")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static String actionOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return ADMIN_PATHS.contains(path) ? ADMIN : actionOf(request.getMethod());
+    }
+
+    static String actionOf(String method) {
+        return switch (method) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+
+    // /api/orders/123 -> orders
+    static String resourceOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        int end = path.indexOf('/', API_PREFIX.length());
+        return path.substring(API_PREFIX.length(), end < 0 ? path.length() : end);
+    }
+}
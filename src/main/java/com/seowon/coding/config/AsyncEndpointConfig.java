@@ -0,0 +1,42 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.config.metrics.RequestStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Configuration
+public class AsyncEndpointConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor checkoutExecutor(AsyncEndpointProperties properties, MeterRegistry meterRegistry) {
+        return executor("checkout", properties.getCheckout(), meterRegistry);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor batchOrderExecutor(AsyncEndpointProperties properties, MeterRegistry meterRegistry) {
+        return executor("batch-order", properties.getBatch(), meterRegistry);
+    }
+
+    // 요청별 SQL 문 집계(RequestStatistics) 가 작업 thread 에서도 이어지도록 decorator 적용
+    private static ThreadPoolTaskExecutor executor(String name, AsyncEndpointProperties.Pool pool, MeterRegistry meterRegistry) {
+        Counter rejected = meterRegistry.counter("orders.async.rejected", "pool", name);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getThreads());
+        executor.setMaxPoolSize(pool.getThreads());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setTaskDecorator(RequestStatistics::propagate);
+        executor.setRejectedExecutionHandler((task, e) -> {
+            rejected.increment();
+            throw new RejectedExecutionException(name + " pool is saturated");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * checkout / batch 주문 API 를 servlet thread 대신 실행할 전용 pool
+ * pool 과 대기열이 모두 차면 503 으로 바로 거절 (대기열이 무한정 늘어나지 않도록)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.async")
+public class AsyncEndpointProperties {
+
+    // false 면 기존처럼 servlet thread 에서 실행 (부하 테스트 비교용)
+    private boolean enabled = true;
+    private Pool checkout = new Pool(16, 200);
+    private Pool batch = new Pool(2, 8);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // DB 커넥션 pool 크기와 함께 조정 (pool 별 thread 합계가 커넥션 수를 넘지 않게)
+        private int threads;
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        Pool(int threads, int queueCapacity) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.seowon.coding.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * filter 에서 "요청 처리가 끝난 뒤" 실행할 작업 등록
+ * 비동기 요청(CompletableFuture 반환 등) 은 filter chain 이 먼저 반환되므로 응답 완료 시점에 실행
+ */
+public final class AsyncRequestCompletion {
+
+    private AsyncRequestCompletion() {
+    }
+
+    public static void whenComplete(HttpServletRequest request, Runnable action) {
+        if (!request.isAsyncStarted()) {
+            action.run();
+            return;
+        }
+        // timeout / error 뒤에도 onComplete 는 항상 한 번 호출됨
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                action.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+}
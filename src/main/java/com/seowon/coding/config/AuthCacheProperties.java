@@ -0,0 +1,18 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.auth-cache")
+public class AuthCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    // 짧게 유지: 계정 잠금/비활성화는 매 요청 확인되지만 비밀번호 검증 결과는 ttl 동안 재사용됨
+    private Duration ttl = Duration.ofSeconds(60);
+}
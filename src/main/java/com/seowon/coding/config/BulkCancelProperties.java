@@ -0,0 +1,17 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.bulk-cancel")
+public class BulkCancelProperties {
+
+    // chunk 하나가 하나의 트랜잭션 (주문 잠금 + 상품별 재고 update 한 번씩)
+    private int chunkSize = 500;
+    // 동시에 실행할 chunk 수 (DB 커넥션 pool 크기보다 작게)
+    private int parallelism = 4;
+    private int maxOrders = 100_000;
+}
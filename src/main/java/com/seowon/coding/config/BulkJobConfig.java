@@ -0,0 +1,21 @@
+package com.seowon.coding.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BulkJobConfig {
+
+    // 일괄 작업 chunk 실행용. 요청 스레드/스케줄러와 분리
+    @Bean
+    public ThreadPoolTaskExecutor bulkJobExecutor(BulkCancelProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setCorePoolSize(properties.getParallelism());
+        executor.setMaxPoolSize(properties.getParallelism());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
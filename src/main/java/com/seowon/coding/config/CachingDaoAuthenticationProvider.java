@@ -0,0 +1,79 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.util.ExpiringLruCache;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 성공한 비밀번호 검증 결과를 짧게 캐시하는 DaoAuthenticationProvider
+ * - HTTP Basic 은 요청마다 비밀번호를 검증하므로 bcrypt 비용을 캐시로 상쇄
+ * - 키는 (username, 입력 비밀번호, 저장된 hash) 의 HMAC-SHA256 (프로세스별 임의 secret)
+ *   : 평문 비밀번호를 메모리에 보관하지 않고, 비밀번호가 바뀌면 저장 hash 가 달라져 자동 무효화
+ * - 계정 상태(잠금/만료 등) 확인은 캐시와 무관하게 매 요청 수행됨
+ */
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ExpiringLruCache<String, Boolean> verified;
+    private final SecretKeySpec secret;
+
+    public CachingDaoAuthenticationProvider(AuthCacheProperties properties) {
+        this.verified = new ExpiringLruCache<>(properties.getMaxEntries(), properties.getTtl());
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        if (authentication.getCredentials() == null || userDetails.getPassword() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String digest = digest(userDetails.getUsername(), authentication.getCredentials().toString(),
+                userDetails.getPassword());
+        if (verified.get(digest) != null) {
+            return;
+        }
+        // 실패 시 예외가 전파되므로 성공한 검증만 저장됨
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        verified.put(digest, Boolean.TRUE);
+    }
+
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    private String digest(String username, String presentedPassword, String storedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            update(mac, username);
+            update(mac, presentedPassword);
+            update(mac, storedPassword);
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+    // 길이를 앞에 붙여 필드 경계가 모호하지 않게 함
+    private static void update(Mac mac, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        mac.update(bytes);
+    }
+}
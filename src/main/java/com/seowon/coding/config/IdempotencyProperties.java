@@ -0,0 +1,18 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.idempotency")
+public class IdempotencyProperties {
+
+    private int maxKeys = 100_000;
+    private Duration ttl = Duration.ofHours(24);
+    // 같은 키의 요청이 처리 중일 때 중복 요청이 결과를 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(30);
+}
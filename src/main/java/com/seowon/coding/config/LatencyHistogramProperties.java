@@ -0,0 +1,22 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * percentile histogram 을 기록할 대상 (meter 마다 bucket 수십 개를 유지하므로 hot path 에만 사용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "latency-histograms")
+public class LatencyHistogramProperties {
+
+    // http.server.requests 의 매핑된 URI 패턴 (예: /api/products/{id})
+    private Set<String> uris = new LinkedHashSet<>();
+    // service.method 의 "클래스 단순 이름.메소드" (예: OrderService.checkoutOrder)
+    private Set<String> serviceMethods = new LinkedHashSet<>();
+}
@@ -0,0 +1,23 @@
+package com.seowon.coding.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoadSheddingConfig {
+
+    @Bean
+    public LoadSheddingFilter loadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        return new LoadSheddingFilter(properties, meterRegistry);
+    }
+
+    // security filter chain 다음에 실행되어 인증된 principal 로 클라이언트를 구분
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(LoadSheddingFilter filter) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/orders/*", "/api/products/*", "/api/orders", "/api/products");
+        return registration;
+    }
+}
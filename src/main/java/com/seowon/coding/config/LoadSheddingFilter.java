@@ -0,0 +1,136 @@
+package com.seowon.coding.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seowon.coding.util.AdaptiveConcurrencyLimiter;
+import com.seowon.coding.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문/상품 API 앞단의 rate limit(429) + 동시 처리 한도(503)
+ * 한도를 넘는 요청은 DB 커넥션을 잡기 전에 바로 거절
+ * 동시 처리 한도는 조회(GET, HEAD)와 변경 요청에 각각 적용하고, bulk 경로(excludedPaths)는 제외
+ * rate limit 은 인증된 principal(없으면 remote address) 별로 적용하며,
+ * 클라이언트가 값을 바꿔 우회하거나 bucket 수를 늘릴 수 없도록 검증되지 않은 header 는 쓰지 않음
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final LoadSheddingProperties.RateLimit rateLimit;
+    private final LoadSheddingProperties.Concurrency concurrency;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    // 크기 상한이 있는 cache 라 요청이 몰려도 bucket 수가 maxClients 를 넘지 않음
+    private final Cache<String, RateLimiter> clients;
+    private final LongSupplier nanoClock;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.rateLimit = properties.getRateLimit();
+        this.concurrency = properties.getConcurrency();
+        this.nanoClock = nanoClock;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(rateLimit.getMaxClients())
+                .expireAfterAccess(rateLimit.getIdleTimeout())
+                .ticker(nanoClock::getAsLong)
+                .build();
+        this.readLimiter = newLimiter(concurrency, meterRegistry, "read");
+        this.writeLimiter = newLimiter(concurrency, meterRegistry, "write");
+        this.rateLimited = Counter.builder("load_shedding.rejected").tag("reason", "rate_limit").register(meterRegistry);
+        this.shed = Counter.builder("load_shedding.rejected").tag("reason", "concurrency").register(meterRegistry);
+        Gauge.builder("load_shedding.rate_limit.clients", clients, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = nanoClock.getAsLong();
+        if (rateLimit.isEnabled()) {
+            long waitNanos = clients
+                    .get(clientKey(request), k -> new RateLimiter(rateLimit.getPermitsPerSecond(), rateLimit.getBurst(), now))
+                    .tryAcquire(now);
+            if (waitNanos > 0) {
+                rateLimited.increment();
+                response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return;
+            }
+        }
+        AdaptiveConcurrencyLimiter concurrencyLimiter = concurrency.isEnabled() ? limiterFor(request) : null;
+        if (concurrencyLimiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        long start = nanoClock.getAsLong();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // 비동기 요청은 응답이 끝날 때까지 in-flight 로 계산
+            AsyncRequestCompletion.whenComplete(request, () -> {
+                long end = nanoClock.getAsLong();
+                concurrencyLimiter.release(end - start, end);
+            });
+        }
+    }
+
+    /**
+     * @return 요청에 적용할 limiter, 제외 경로면 null
+     */
+    AdaptiveConcurrencyLimiter limiterFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (concurrency.getExcludedPaths().contains(path)) {
+            return null;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? readLimiter : writeLimiter;
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(LoadSheddingProperties.Concurrency concurrency,
+                                                         MeterRegistry meterRegistry, String group) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(concurrency.getInitialLimit(),
+                concurrency.getMinLimit(), concurrency.getMaxLimit(), concurrency.getTargetLatency().toNanos(),
+                concurrency.getBackoffRatio(), concurrency.getBackoffWindow().toNanos());
+        Gauge.builder("load_shedding.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("load_shedding.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("group", group)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    long clientCount() {
+        clients.cleanUp();
+        return clients.estimatedSize();
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,49 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "load-shedding")
+public class LoadSheddingProperties {
+
+    private RateLimit rateLimit = new RateLimit();
+    private Concurrency concurrency = new Concurrency();
+
+    // 클라이언트(인증된 principal, 없으면 remote address)별 token bucket
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private double permitsPerSecond = 50;
+        private int burst = 100;
+        // 보관하는 bucket 최대 수 (넘으면 오래 쓰지 않은 bucket 부터 제거)
+        private int maxClients = 100_000;
+        // 이 시간 동안 요청이 없으면 bucket 제거 (다시 오면 가득 찬 bucket 으로 시작하므로 동작은 같음)
+        private Duration idleTimeout = Duration.ofMinutes(5);
+    }
+
+    // 인스턴스 전체의 동시 처리 한도 (AIMD). 조회(GET)와 변경 요청은 따로 제한 (느린 쓰기가 조회 한도를 줄이지 않도록)
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private Duration targetLatency = Duration.ofMillis(250);
+        private double backoffRatio = 0.9;
+        // 한도를 줄인 뒤 이 시간 동안은 느린 응답이 더 와도 다시 줄이지 않음
+        private Duration backoffWindow = Duration.ofSeconds(1);
+        // 지연 기반 한도에서 제외하는 경로: 전용 pool / 작업 큐로 따로 제한되고 원래 목표 지연보다 오래 걸리는 bulk 요청
+        private Set<String> excludedPaths = new LinkedHashSet<>(
+                List.of("/api/orders/batch", "/api/orders/bulk-cancel", "/api/products/bulk-price"));
+    }
+}
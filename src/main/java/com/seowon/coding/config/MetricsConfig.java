@@ -0,0 +1,58 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.config.metrics.LatencyHistogramFilter;
+import com.seowon.coding.config.metrics.RepositoryCallCountingAspect;
+import com.seowon.coding.config.metrics.RequestMetricsFilter;
+import com.seowon.coding.config.metrics.StatementCountingInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 서비스 메소드(@Timed), repository 호출, 요청당 SQL 문 수 계측
+ * 조회: /actuator/metrics/{name}
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public LatencyHistogramFilter latencyHistogramFilter(LatencyHistogramProperties properties) {
+        return new LatencyHistogramFilter(properties);
+    }
+
+    @Bean
+    public RepositoryCallCountingAspect repositoryCallCountingAspect() {
+        return new RepositoryCallCountingAspect();
+    }
+
+    @Bean
+    public StatementCountingInspector statementCountingInspector(MeterRegistry meterRegistry,
+                                                                 SqlLoggingProperties sqlLoggingProperties) {
+        return new StatementCountingInspector(meterRegistry, sqlLoggingProperties.getSampleRate());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCountingInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    // 다른 filter(보안, load shedding)에서 실행된 쿼리까지 포함하도록 가장 바깥에서 실행
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry,
+                                                                           QueryBudgetProperties queryBudgetProperties) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry, queryBudgetProperties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.analytics")
+public class OrderAnalyticsProperties {
+
+    private long flushIntervalMs = 1000;
+    // 재시작 시 마지막 flush 시각보다 이만큼 앞서 생성된 outbox 이벤트부터 다시 집계
+    // 주문 트랜잭션의 이벤트 기록 ~ 커밋 사이 시간보다 길어야 함 (5000 건 batch 주문 포함)
+    private Duration recoveryMargin = Duration.ofMinutes(5);
+}
@@ -0,0 +1,28 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.archive")
+public class OrderArchiveProperties {
+
+    private boolean enabled = true;
+    // 주문일로부터 이 기간이 지난 종료 상태(DELIVERED, CANCELLED) 주문을 아카이브로 이동
+    // 이력 조회가 이 값으로 아카이브 조회 생략 여부를 판단하므로, 운영 중에는 늘리지 말고 줄이기만 해야 함
+    private Duration retention = Duration.ofDays(90);
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 이 시각 이후 주문은 아직 아카이브되지 않았음이 보장됨
+     */
+    public LocalDateTime archivedBefore(LocalDateTime now) {
+        return now.minus(retention);
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.batch")
+public class OrderBatchProperties {
+
+    // 한 요청에 담을 수 있는 최대 주문 수 (하나의 트랜잭션/lock 범위)
+    private int maxOrders = 5000;
+}
@@ -0,0 +1,30 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.history")
+public class OrderHistoryProperties {
+
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+    // principal 이름 -> 고객 email (없으면 principal 이름을 email 로 사용)
+    private Map<String, String> customerEmails = new LinkedHashMap<>();
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = false;
+        private int maxCustomers = 10_000;
+        private int recentOrders = 20;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,17 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.queue")
+public class OrderQueueProperties {
+
+    private Duration defaultLease = Duration.ofSeconds(60);
+    private Duration maxLease = Duration.ofMinutes(10);
+    private int maxClaim = 100;
+}
@@ -0,0 +1,26 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private Relay relay = new Relay();
+    private Duration retention = Duration.ofDays(7);
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private boolean enabled = true;
+        private int batchSize = 200;
+        private int maxBatchesPerRun = 10;
+        // sink 발행에 걸리는 시간보다 길어야 함. 만료되면 다른 relay 가 같은 batch 를 다시 발행
+        private Duration claimTimeout = Duration.ofSeconds(30);
+    }
+}
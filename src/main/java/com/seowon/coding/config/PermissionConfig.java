@@ -0,0 +1,73 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PermissionExplainer;
+import com.seowon.coding.domain.model.PermissionIndex;
+import com.seowon.coding.domain.model.PermissionSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Slf4j
+@Configuration
+public class PermissionConfig {
+
+    // 기동 시 한 번 compile 또는 스냅샷 로딩 (정책 변경은 재기동으로 반영)
+    @Bean
+    public PermissionIndex permissionIndex(PermissionProperties properties) {
+        if (!properties.isEnabled()) {
+            return PermissionIndex.empty();
+        }
+        if (properties.getSnapshotPath() == null || properties.getSnapshotPath().isBlank()) {
+            return compile(properties);
+        }
+
+        // 스냅샷이 없거나 원본과 다르거나 손상된 경우에만 원본 모델을 만들어 compile 후 스냅샷을 다시 씀
+        Path snapshot = Path.of(properties.getSnapshotPath());
+        long started = System.nanoTime();
+        long fingerprint = properties.sourceFingerprint();
+        try {
+            Optional<PermissionIndex> loaded = PermissionSnapshot.read(snapshot, fingerprint);
+            if (loaded.isPresent()) {
+                log.info("Loaded permission snapshot {} for {} users in {} ms",
+                        snapshot, loaded.get().userCount(), (System.nanoTime() - started) / 1_000_000);
+                return loaded.get();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Ignoring unreadable permission snapshot {}", snapshot, e);
+        }
+        PermissionIndex index = compile(properties);
+        try {
+            PermissionSnapshot.write(index, fingerprint, snapshot);
+        } catch (IOException e) {
+            log.warn("Failed to write permission snapshot {}", snapshot, e);
+        }
+        return index;
+    }
+
+    private static PermissionIndex compile(PermissionProperties properties) {
+        int parallelism = properties.getCompileParallelism();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        long started = System.nanoTime();
+        PermissionIndex index = PermissionIndex.compile(
+                properties.toUsers(), properties.toGroups(), properties.toPolicies(), threads);
+        log.info("Compiled permission index for {} users in {} ms ({} threads)",
+                index.userCount(), (System.nanoTime() - started) / 1_000_000, threads);
+        return index;
+    }
+
+    @Bean
+    public ApiPermissionAuthorizationManager apiPermissionAuthorizationManager(PermissionIndex permissionIndex,
+                                                                               PermissionProperties properties,
+                                                                               MeterRegistry meterRegistry) {
+        PermissionExplainer explainer = properties.isEnabled() && properties.getExplainSampleRate() > 0
+                ? new PermissionExplainer(properties.toUsers(), properties.toGroups(), properties.toPolicies())
+                : null;
+        return new ApiPermissionAuthorizationManager(permissionIndex, meterRegistry,
+                explainer, explainer == null ? 0 : properties.getExplainSampleRate());
+    }
+}
@@ -0,0 +1,104 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PermissionSnapshot;
+import com.seowon.coding.domain.model.Policy;
+import com.seowon.coding.domain.model.Statement;
+import com.seowon.coding.domain.model.User;
+import com.seowon.coding.domain.model.UserGroup;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /api/orders/**, /api/products/** 요청 권한 모델
+ * action 은 HTTP method 에 따라 read(GET/HEAD/OPTIONS) 또는 write, resource 는 /api 다음 경로 (orders, products)
+ * 롤업 재계산(/api/orders/analytics/rebuild), 대량 취소(/api/orders/bulk-cancel) 는 orders 에 대한 admin action,
+ * 상품 캐시 비우기(/api/products/cache) 는 products 에 대한 admin action 필요
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.permissions")
+public class PermissionProperties {
+
+    private boolean enabled = false;
+    // compile 결과 바이너리 스냅샷 경로. 지정하면 원본이 바뀌지 않은 경우 compile 대신 스냅샷을 로딩
+    private String snapshotPath;
+    // 정책 원본의 버전 키. 지정하면 스냅샷 stale 판단에 원본 내용 대신 이 값만 사용 (정책을 바꿀 때 함께 올려야 함)
+    private String version;
+    // compile 시 사용자별 grant 계산 thread 수 (0 이면 전체 core)
+    private int compileParallelism = 0;
+    // 판정 근거(explain) 를 추적할 요청 비율 0.0 ~ 1.0 (0 이면 비활성, 원본 모델을 메모리에 유지함)
+    private double explainSampleRate = 0;
+    // userId(principal 이름) -> groupIds
+    private Map<String, List<String>> users = new LinkedHashMap<>();
+    // groupId -> policyIds
+    private Map<String, List<String>> groups = new LinkedHashMap<>();
+    // policyId -> statements
+    private Map<String, List<StatementProperties>> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class StatementProperties {
+        private List<String> actions = new ArrayList<>();
+        private List<String> resources = new ArrayList<>();
+    }
+
+    public List<User> toUsers() {
+        return users.entrySet().stream().map(e -> new User(e.getKey(), e.getValue())).toList();
+    }
+
+    public List<UserGroup> toGroups() {
+        return groups.entrySet().stream().map(e -> new UserGroup(e.getKey(), e.getValue())).toList();
+    }
+
+    public List<Policy> toPolicies() {
+        return policies.entrySet().stream()
+                .map(e -> new Policy(e.getKey(), e.getValue().stream()
+                        .map(s -> new Statement(s.getActions(), s.getResources()))
+                        .toList()))
+                .toList();
+    }
+
+    /**
+     * 스냅샷 stale 판단 키. User / UserGroup / Policy 객체를 만들지 않고 설정 값에서 바로 계산
+     * version 이 없으면 PermissionSnapshot.fingerprint(toUsers(), toGroups(), toPolicies()) 와 같은 값
+     */
+    public long sourceFingerprint() {
+        PermissionSnapshot.Fingerprint fingerprint = new PermissionSnapshot.Fingerprint();
+        if (version != null && !version.isBlank()) {
+            return fingerprint.add("V", version).value();
+        }
+        users.forEach((userId, groupIds) -> {
+            fingerprint.add("u", userId);
+            addAll(fingerprint, "g", groupIds);
+        });
+        groups.forEach((groupId, policyIds) -> {
+            fingerprint.add("G", groupId);
+            addAll(fingerprint, "p", policyIds);
+        });
+        policies.forEach((policyId, statements) -> {
+            fingerprint.add("P", policyId);
+            if (statements != null) {
+                for (StatementProperties statement : statements) {
+                    fingerprint.add("S", "");
+                    addAll(fingerprint, "a", statement.getActions());
+                    addAll(fingerprint, "r", statement.getResources());
+                }
+            }
+        });
+        return fingerprint.value();
+    }
+
+    private static void addAll(PermissionSnapshot.Fingerprint fingerprint, String tag, List<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                fingerprint.add(tag, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.seowon.coding.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 실제 적용된 pool / Hibernate 설정을 한 줄로 기록 (프로파일 설정 누락 확인용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersistenceSettingsReporter {
+
+    private static final List<String> HIBERNATE_KEYS = List.of(
+            "hibernate.hbm2ddl.auto",
+            "hibernate.show_sql",
+            "hibernate.format_sql",
+            "hibernate.jdbc.batch_size",
+            "hibernate.jdbc.fetch_size",
+            "hibernate.order_inserts",
+            "hibernate.order_updates",
+            "hibernate.query.in_clause_parameter_padding",
+            "hibernate.query.plan_cache_max_size",
+            "hibernate.cache.use_second_level_cache",
+            "hibernate.cache.use_query_cache");
+
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SqlLoggingProperties sqlLoggingProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        log.info("Persistence settings: profiles={}, pool={}, sqlSampleRate={}, hibernate={}",
+                Arrays.toString(environment.getActiveProfiles()),
+                poolSettings(),
+                sqlLoggingProperties.getSampleRate(),
+                hibernateSettings());
+    }
+
+    private String poolSettings() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return dataSource.getClass().getSimpleName();
+        }
+        return "hikari[max=" + hikari.getMaximumPoolSize()
+                + ", minIdle=" + hikari.getMinimumIdle()
+                + ", connectionTimeout=" + hikari.getConnectionTimeout() + "ms"
+                + ", autoCommit=" + hikari.isAutoCommit() + "]";
+    }
+
+    private String hibernateSettings() {
+        Map<String, Object> properties = entityManagerFactory.getProperties();
+        return HIBERNATE_KEYS.stream()
+                .map(key -> key.substring("hibernate.".length()) + "=" + properties.getOrDefault(key, "default"))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.service.pricing.PricingEngine;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PricingConfig {
+
+    @Bean
+    public PricingEngine pricingEngine(PricingProperties properties) {
+        return PricingEngine.from(properties);
+    }
+}
@@ -0,0 +1,88 @@
+package com.seowon.coding.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잘못된 쿠폰/프로모션 설정(코드 누락, 음수 금액 등)은 첫 주문이 아니라 시작 시점에 실패
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "pricing")
+public class PricingProperties {
+
+    @Valid
+    @NotNull
+    private Shipping shipping = new Shipping();
+    @Valid
+    private List<Coupon> coupons = new ArrayList<>();
+    @Valid
+    private List<Promotion> promotions = new ArrayList<>();
+    // 주문(checkout) 금액에 적용하는 세율
+    @NotNull
+    @DecimalMin("0")
+    private BigDecimal taxRate = BigDecimal.ZERO;
+    // 가격표(applyBulkPriceChange includeTax) 에 적용하는 VAT
+    @NotNull
+    @DecimalMin("0")
+    private BigDecimal vatRate = new BigDecimal("0.10");
+    @Valid
+    @NotNull
+    private QuoteCache quoteCache = new QuoteCache();
+
+    @Getter
+    @Setter
+    public static class Shipping {
+        @NotNull
+        @DecimalMin("0")
+        private BigDecimal freeThreshold = new BigDecimal("100.00");
+        @NotNull
+        @DecimalMin("0")
+        private BigDecimal fee = new BigDecimal("5.00");
+    }
+
+    @Getter
+    @Setter
+    public static class QuoteCache {
+        @Positive
+        private int maxSize = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Coupon {
+        @NotBlank
+        private String code;
+        // true 이면 code 로 시작하는 모든 쿠폰에 적용 (예: SALE*)
+        private boolean prefix;
+        @NotNull
+        @DecimalMin(value = "0", inclusive = false)
+        private BigDecimal amount;
+    }
+
+    @Getter
+    @Setter
+    public static class Promotion {
+        @NotBlank
+        private String category;
+        @NotNull
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax("100")
+        private BigDecimal percent;
+    }
+}
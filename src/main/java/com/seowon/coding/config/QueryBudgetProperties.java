@@ -0,0 +1,27 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청당 SQL 문 수 예산 (N+1 감지용)
+ * 초과 시 경고 로그와 http.server.requests.statement_budget.exceeded 카운터 증가
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+    private int defaultLimit = 30;
+    // 매핑된 URI 패턴별 예산 (예: "[/api/orders/batch]": 200)
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public int limitFor(String uriPattern) {
+        return endpoints.getOrDefault(uriPattern, defaultLimit);
+    }
+}
@@ -1,24 +1,44 @@
 package com.seowon.coding.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.regex.Pattern;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Pattern ENCODER_PREFIX = Pattern.compile("^\\{.+}.*$");
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   PermissionProperties permissionProperties,
+                                                   ApiPermissionAuthorizationManager apiPermissionAuthorizationManager) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // Disable CSRF
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/h2-console/**").permitAll()
-                .anyRequest().authenticated()
-            )
+            .authorizeHttpRequests(auth -> {
+                // 비동기 응답의 재dispatch 는 최초 요청에서 이미 인가됨
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                auth.requestMatchers("/h2-console/**").permitAll();
+                if (permissionProperties.isEnabled()) {
+                    auth.requestMatchers("/api/orders/**", "/api/products/**").access(apiPermissionAuthorizationManager);
+                }
+                auth.anyRequest().authenticated();
+            })
             .headers(headers -> headers
                 .contentSecurityPolicy(csp -> csp.policyDirectives("frame-ancestors 'self'")))  // Allow H2 console
             .httpBasic(httpBasic -> {})  // Enable HTTP Basic Auth
@@ -26,4 +46,34 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    // spring.security.user 계정을 bcrypt 로 저장 ({id} prefix 가 있으면 그대로 사용)
+    @Bean
+    public UserDetailsService userDetailsService(SecurityProperties securityProperties, PasswordEncoder passwordEncoder) {
+        SecurityProperties.User user = securityProperties.getUser();
+        String password = ENCODER_PREFIX.matcher(user.getPassword()).matches()
+                ? user.getPassword()
+                : passwordEncoder.encode(user.getPassword());
+        return new InMemoryUserDetailsManager(User.withUsername(user.getName())
+                .password(password)
+                .roles(user.getRoles().toArray(new String[0]))
+                .build());
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         AuthCacheProperties authCacheProperties) {
+        DaoAuthenticationProvider provider = authCacheProperties.isEnabled()
+                ? new CachingDaoAuthenticationProvider(authCacheProperties)
+                : new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-logging")
+public class SqlLoggingProperties {
+
+    // 0 이면 끔, 1 이면 모든 SQL 을 sql.sampled 로거로 기록 (show-sql 대체)
+    private double sampleRate = 0.0;
+}
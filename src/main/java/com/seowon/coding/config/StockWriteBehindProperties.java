@@ -0,0 +1,24 @@
+package com.seowon.coding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stock.write-behind")
+public class StockWriteBehindProperties {
+
+    // 주문 시 product row 대신 메모리 원장에서 재고를 차감하고 주기적으로 합산 반영
+    // 재고 원장이 노드 메모리에 있으므로 주문을 처리하는 노드가 하나일 때만 사용
+    // 켜면 GET /api/products 의 stockQuantity 는 아직 flush 되지 않은 주문/취소분이 빠진 값 (최대 flush 주기만큼 지연)
+    private boolean enabled = false;
+    // 커밋된 재고 변경분을 기록하는 append-only 로그 디렉터리 (재시작 시 미반영분을 재생)
+    private String logDir = "data/stock-delta";
+    // 커밋마다 로그를 fsync. false 면 프로세스 종료에는 안전하지만 OS 장애 시 최근 변경분이 유실될 수 있음
+    private boolean fsync = true;
+    // 상품 재고를 처음 읽을 때 진행 중인 flush 를 기다리는 최대 시간
+    private Duration loadTimeout = Duration.ofSeconds(5);
+}
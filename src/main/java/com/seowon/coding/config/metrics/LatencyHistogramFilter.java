@@ -0,0 +1,43 @@
+package com.seowon.coding.config.metrics;
+
+import com.seowon.coding.config.LatencyHistogramProperties;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * LatencyHistogramProperties 에 지정한 endpoint / service 메소드의 timer 에만 percentile histogram 을 켬
+ * (management.metrics.distribution.percentiles-histogram 은 meter 이름 단위라 태그로 제한할 수 없음)
+ */
+public class LatencyHistogramFilter implements MeterFilter {
+
+    private static final DistributionStatisticConfig HISTOGRAM =
+            DistributionStatisticConfig.builder().percentilesHistogram(true).build();
+
+    private final LatencyHistogramProperties properties;
+
+    public LatencyHistogramFilter(LatencyHistogramProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        return isSelected(id) ? HISTOGRAM.merge(config) : config;
+    }
+
+    boolean isSelected(Meter.Id id) {
+        return switch (id.getName()) {
+            case "http.server.requests" -> properties.getUris().contains(id.getTag("uri"));
+            case "service.method" -> properties.getServiceMethods().contains(serviceMethod(id));
+            default -> false;
+        };
+    }
+
+    private static String serviceMethod(Meter.Id id) {
+        String type = id.getTag("class");
+        if (type == null) {
+            return null;
+        }
+        return type.substring(type.lastIndexOf('.') + 1) + "." + id.getTag("method");
+    }
+}
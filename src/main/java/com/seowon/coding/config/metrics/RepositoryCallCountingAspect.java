@@ -0,0 +1,16 @@
+package com.seowon.coding.config.metrics;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+
+/**
+ * 요청별 repository 호출 수 집계 (호출별 timer 는 spring.data.repository.invocations 로 기록됨)
+ */
+@Aspect
+public class RepositoryCallCountingAspect {
+
+    @Before("target(org.springframework.data.repository.Repository)")
+    public void countCall() {
+        RequestStatistics.recordRepositoryCall();
+    }
+}
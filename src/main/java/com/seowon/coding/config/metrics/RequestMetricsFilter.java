@@ -0,0 +1,100 @@
+package com.seowon.coding.config.metrics;
+
+import com.seowon.coding.config.AsyncRequestCompletion;
+import com.seowon.coding.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP 요청당 SQL 문 / repository 호출 수를 분포(http.server.requests.db.statements 등)로 기록
+ * uri 태그는 매핑된 패턴(/api/orders/{id})을 사용해 cardinality 를 제한
+ * SQL 문 수가 QueryBudgetProperties 의 예산을 넘으면 경고 (N+1 runtime guard)
+ * meter 는 (method, uri) 별로 한 번만 등록하고 재사용 (요청마다 builder/registry 조회를 하지 않음)
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties budget;
+    private final Map<MeterKey, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, QueryBudgetProperties budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics stats = RequestStatistics.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            // 비동기 요청은 작업 thread 에서 집계가 이어지므로 응답 완료 후 기록
+            AsyncRequestCompletion.whenComplete(request, () -> record(request, stats));
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        record(request.getMethod(), pattern == null ? UNKNOWN_URI : pattern.toString(), stats);
+    }
+
+    void record(String method, String uri, RequestStatistics stats) {
+        RequestMeters m = meters.computeIfAbsent(new MeterKey(method, uri), this::register);
+        m.statements().record(stats.getStatements());
+        m.repositoryCalls().record(stats.getRepositoryCalls());
+        checkBudget(method, uri, stats, m);
+    }
+
+    private void checkBudget(String method, String uri, RequestStatistics stats, RequestMeters m) {
+        if (!budget.isEnabled()) {
+            return;
+        }
+        int limit = budget.limitFor(uri);
+        if (stats.getStatements() > limit) {
+            m.budgetExceeded().increment();
+            log.warn("{} {} issued {} SQL statements (budget {}, repository calls {})",
+                    method, uri, stats.getStatements(), limit, stats.getRepositoryCalls());
+        }
+    }
+
+    private RequestMeters register(MeterKey key) {
+        return new RequestMeters(
+                summary("http.server.requests.db.statements", key),
+                summary("http.server.requests.repository.calls", key),
+                Counter.builder("http.server.requests.statement_budget.exceeded")
+                        .tag("method", key.method())
+                        .tag("uri", key.uri())
+                        .register(meterRegistry));
+    }
+
+    private DistributionSummary summary(String name, MeterKey key) {
+        return DistributionSummary.builder(name)
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .register(meterRegistry);
+    }
+
+    private record MeterKey(String method, String uri) {
+    }
+
+    private record RequestMeters(DistributionSummary statements, DistributionSummary repositoryCalls,
+                                 Counter budgetExceeded) {
+    }
+}
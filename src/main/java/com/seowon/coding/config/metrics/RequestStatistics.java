@@ -0,0 +1,77 @@
+package com.seowon.coding.config.metrics;
+
+/**
+ * 현재 스레드(HTTP 요청)에서 실행된 SQL 문 / repository 호출 수
+ * RequestMetricsFilter 가 요청 시작/종료 시 begin/end 를 호출하며, 요청 밖(스케줄러 등)에서는 집계하지 않음
+ * 요청을 다른 thread 에서 이어서 처리하는 executor 는 propagate 로 같은 집계 객체를 넘겨야 함
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int repositoryCalls;
+
+    private RequestStatistics() {
+    }
+
+    public static RequestStatistics begin() {
+        RequestStatistics stats = new RequestStatistics();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 제출 시점 thread 의 집계 객체를 실행 thread 에 연결 (TaskDecorator 용)
+     * 한 요청의 작업은 한 번에 한 thread 에서만 실행된다고 가정
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestStatistics stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestStatistics previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void recordStatement() {
+        RequestStatistics stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void recordRepositoryCall() {
+        RequestStatistics stats = CURRENT.get();
+        if (stats != null) {
+            stats.repositoryCalls++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getRepositoryCalls() {
+        return repositoryCalls;
+    }
+}
@@ -0,0 +1,36 @@
+package com.seowon.coding.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 문을 세는 inspector (SQL 은 변경하지 않음)
+ * sampleRate 비율만큼 SQL 을 sql.sampled 로거로 기록 (logback-spring.xml 에서 비동기 appender 사용)
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("sql.sampled");
+
+    private final Counter statements;
+    private final double sampleRate;
+
+    public StatementCountingInspector(MeterRegistry meterRegistry, double sampleRate) {
+        this.statements = Counter.builder("db.statements").register(meterRegistry);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        RequestStatistics.recordStatement();
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            SQL_LOG.info("{}", sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,44 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.dto.OrderAggregateDTO;
+import com.seowon.coding.domain.model.OrderRollup;
+import com.seowon.coding.service.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/orders/analytics")
+@RequiredArgsConstructor
+public class OrderAnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    @GetMapping("/summary")
+    public ResponseEntity<List<OrderAggregateDTO>> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") OrderRollup.Granularity granularity) {
+        return ResponseEntity.ok(orderAnalyticsService.aggregate(from, to, granularity));
+    }
+
+    @GetMapping("/series")
+    public ResponseEntity<List<OrderAggregateDTO>> getSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") OrderRollup.Granularity granularity) {
+        return ResponseEntity.ok(orderAnalyticsService.series(from, to, granularity));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        orderAnalyticsService.rebuild(from, to);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,16 +1,44 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.config.AsyncEndpointProperties;
+import com.seowon.coding.domain.dto.BatchOrderRequestDTO;
+import com.seowon.coding.domain.dto.BatchOrderResultDTO;
+import com.seowon.coding.domain.dto.BulkCancelRequestDTO;
+import com.seowon.coding.domain.dto.CheckoutRequestDTO;
+import com.seowon.coding.domain.dto.OrderHistoryDTO;
 import com.seowon.coding.domain.dto.OrderRequestDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.dto.QuoteRequestDTO;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.ProcessingStatus;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.service.BatchOrderService;
+import com.seowon.coding.service.BulkCancelService;
+import com.seowon.coding.service.IdempotencyKeyReusedException;
+import com.seowon.coding.service.IdempotencyService;
+import com.seowon.coding.service.OrderHistoryAccess;
+import com.seowon.coding.service.OrderHistoryService;
 import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.pricing.CartQuoteService;
+import com.seowon.coding.service.pricing.Quote;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @RestController
@@ -19,11 +47,61 @@ import java.util.stream.Stream;
 public class OrderController {
     
     private final OrderService orderService;
+    private final OrderHistoryService orderHistoryService;
+    private final OrderHistoryAccess orderHistoryAccess;
+    private final CartQuoteService cartQuoteService;
+    private final IdempotencyService idempotencyService;
+    private final BatchOrderService batchOrderService;
+    private final BulkCancelService bulkCancelService;
+    private final AsyncEndpointProperties asyncProperties;
+    // checkout / batch 는 트랜잭션 동안 servlet thread 를 점유하지 않도록 전용 pool 에서 실행
+    @Qualifier("checkoutExecutor")
+    private final Executor checkoutExecutor;
+    @Qualifier("batchOrderExecutor")
+    private final Executor batchOrderExecutor;
     
     @GetMapping
     public ResponseEntity<List<Order>> getAllOrders() {
         return ResponseEntity.ok(orderService.getAllOrders());
     }
+
+    // 상태 / 주문일 구간 조회는 아카이브된 주문도 포함
+    @GetMapping(params = "status")
+    public ResponseEntity<List<Order>> getOrdersByStatus(@RequestParam Order.OrderStatus status) {
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status));
+    }
+
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<List<Order>> getOrdersBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderService.getOrdersBetween(from, to));
+    }
+
+    // 기본은 로그인한 사용자 본인의 이력. 다른 고객의 email 은 orders admin 권한이 있어야 조회 가능 (없으면 403)
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryDTO> getOrderHistory(
+            Principal principal,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+            @RequestParam(required = false) Long beforeId) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String customerEmail = orderHistoryAccess.resolveCustomerEmail(principal.getName(), email).orElse(null);
+        if (customerEmail == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(orderHistoryService.getHistory(customerEmail, size, beforeDate, beforeId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
     
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
@@ -37,6 +115,8 @@ public class OrderController {
         try {
             Order updatedOrder = orderService.updateOrder(id, order);
             return ResponseEntity.ok(updatedOrder);
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -51,15 +131,136 @@ public class OrderController {
             return ResponseEntity.notFound().build();
         }
     }
+    // 같은 Idempotency-Key 의 중복 요청은 pool thread 를 잡지 않고 실행 중인 첫 요청의 결과로 응답
+    @PostMapping("/checkout")
+    public CompletableFuture<ResponseEntity<OrderSummaryDTO>> checkout(
+            Principal principal,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CheckoutRequestDTO request) {
+        Object fingerprint = Arrays.asList("checkout", request.getCustomerName(), request.getCustomerEmail(),
+                request.getProducts(), request.getCouponCode());
+        return idempotencyService.executeAsync(nameOf(principal), idempotencyKey, fingerprint,
+                        () -> submit(checkoutExecutor, () -> toSummary(
+                                orderService.checkoutOrder(request.getCustomerName(), request.getCustomerEmail(),
+                                        request.getProducts(), request.getCouponCode()))))
+                .handle((summary, error) -> error == null
+                        ? ResponseEntity.status(HttpStatus.CREATED).body(summary)
+                        : failure(error));
+    }
+
+    // 주문별 결과를 요청 순서대로 반환 (재고 부족 등 실패한 주문만 제외하고 저장)
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<List<BatchOrderResultDTO>>> createOrders(@RequestBody BatchOrderRequestDTO request) {
+        return submit(batchOrderExecutor, () -> batchOrderService.createOrders(request.getOrders()))
+                .handle((results, error) -> error == null ? ResponseEntity.ok(results) : failure(error));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<OrderSummaryDTO> cancelOrder(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(toSummary(orderService.cancelOrder(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // 비동기 일괄 취소: 202 와 jobId 를 반환하고 진행률은 /jobs/{jobId} 로 조회
+    @PostMapping("/bulk-cancel")
+    public ResponseEntity<ProcessingStatus> bulkCancel(@RequestBody BulkCancelRequestDTO request) {
+        try {
+            String jobId = bulkCancelService.start(request.getOrderIds());
+            return ResponseEntity.accepted().body(bulkCancelService.getStatus(jobId).orElse(null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ProcessingStatus> getJobStatus(@PathVariable String jobId) {
+        return bulkCancelService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // 저장/재고 차감 없이 금액만 계산 (동일 장바구니는 memo)
+    @PostMapping("/quote")
+    public ResponseEntity<Quote> quote(@RequestBody QuoteRequestDTO request) {
+        try {
+            return ResponseEntity.ok(cartQuoteService.quote(request.getProducts(), request.getCouponCode()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/{id}")
-    public ResponseEntity createOrder(@PathVariable Long id, @RequestBody OrderRequestDTO orderRequestDTO) {
+    public ResponseEntity<OrderSummaryDTO> createOrder(
+            @PathVariable Long id,
+            Principal principal,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderRequestDTO orderRequestDTO) {
         String customerEmail = orderRequestDTO.getCustomerEmail();
         String customerName = orderRequestDTO.getCustomerName();
         List<Product> products = orderRequestDTO.getProducts();
+        if (products == null) {
+            return ResponseEntity.badRequest().build();
+        }
         List<Long> productIds = products.stream().map(Product::getId).toList();
-        products.stream().map(Product::getStockQuantity).toList()
-        orderService.placeOrder(customerName, customerEmail, productIds, quantities);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        List<Integer> quantities = products.stream().map(Product::getStockQuantity).toList();
+        try {
+            // 재요청은 저장된 결과를 반환하므로 재고가 다시 차감되지 않음
+            // 경로의 id 는 주문 생성에 쓰이지 않으므로 fingerprint 에서 제외
+            Object fingerprint = Arrays.asList("order", customerName, customerEmail, productIds, quantities);
+            OrderSummaryDTO summary = idempotencyService.execute(nameOf(principal), idempotencyKey, fingerprint, () -> toSummary(
+                    orderService.placeOrder(customerName, customerEmail, productIds, quantities)));
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (IdempotencyKeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            // 재고 부족, 또는 동시에 같은 상품 재고가 변경됨
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // pool 과 대기열이 모두 찬 경우 servlet thread 에서 기다리지 않고 바로 실패 (503)
+    private <T> CompletableFuture<T> submit(Executor executor, Supplier<T> handler) {
+        try {
+            if (!asyncProperties.isEnabled()) {
+                return CompletableFuture.completedFuture(handler.get());
+            }
+            return CompletableFuture.supplyAsync(handler, executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
+        }
+        if (cause instanceof IdempotencyKeyReusedException) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (cause instanceof IllegalStateException || cause instanceof OptimisticLockingFailureException) {
+            // 재고 부족, 동시에 같은 상품 재고가 변경됨, 또는 같은 키의 첫 요청이 아직 처리 중
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        throw new CompletionException(cause);
+    }
+
+    private static String nameOf(Principal principal) {
+        return principal == null ? null : principal.getName();
+    }
+
+    private static OrderSummaryDTO toSummary(Order order) {
+        return new OrderSummaryDTO(order.getId(), order.getStatus(), order.getOrderDate(), order.getTotalAmount());
     }
     /**
      * TODO #2: 주문을 생성하는 API 구현
@@ -0,0 +1,58 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.dto.OrderClaimDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.service.OrderQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/orders/queue")
+@RequiredArgsConstructor
+public class OrderQueueController {
+
+    private final OrderQueueService orderQueueService;
+
+    @PostMapping("/{status}/claim")
+    public ResponseEntity<OrderClaimDTO> claim(@PathVariable Order.OrderStatus status,
+                                               @RequestParam(defaultValue = "10") int max,
+                                               @RequestParam(required = false) Long leaseSeconds) {
+        try {
+            Duration lease = leaseSeconds == null ? null : Duration.ofSeconds(leaseSeconds);
+            return ResponseEntity.ok(orderQueueService.claim(status, max, lease));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<OrderSummaryDTO> complete(@PathVariable Long id,
+                                                    @RequestParam String token,
+                                                    @RequestParam Order.OrderStatus status) {
+        try {
+            return orderQueueService.complete(id, token, status)
+                    .map(order -> ResponseEntity.ok(
+                            new OrderSummaryDTO(order.getId(), order.getStatus(), order.getOrderDate(), order.getTotalAmount())))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<Void> release(@PathVariable Long id, @RequestParam String token) {
+        try {
+            orderQueueService.release(id, token);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
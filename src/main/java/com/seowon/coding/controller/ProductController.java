@@ -1,8 +1,11 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.domain.dto.BulkPriceChangeRequestDTO;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.service.ProductCacheService;
 import com.seowon.coding.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,12 +18,24 @@ import java.util.List;
 public class ProductController {
     
     private final ProductService productService;
+    private final ProductCacheService productCacheService;
     
     @GetMapping
     public ResponseEntity<List<Product>> getAllProducts() {
         return ResponseEntity.ok(productService.getAllProducts());
     }
     
+    // 2차 캐시 무효화 (id 가 없으면 전체)
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> evictCache(@RequestParam(required = false) Long id) {
+        if (id == null) {
+            productCacheService.evictAll();
+        } else {
+            productCacheService.evict(id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         return productService.getProductById(id)
@@ -34,11 +49,29 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
     }
     
+    @PostMapping("/bulk-price")
+    public ResponseEntity<Void> applyBulkPriceChange(@RequestBody BulkPriceChangeRequestDTO request) {
+        if (request.getPercentage() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            productService.applyBulkPriceChange(request.getProductIds(), request.getPercentage(), request.isIncludeTax());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // 동시에 같은 상품이 변경됨 (DIRTY optimistic lock)
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
         try {
             Product updatedProduct = productService.updateProduct(id, product);
             return ResponseEntity.ok(updatedProduct);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -49,6 +82,8 @@ public class ProductController {
         try {
             productService.deleteProduct(id);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,33 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 주문 요청의 주문별 처리 결과 (index 는 요청 내 순서)
+ * 실패한 주문은 orderId 가 null 이고 error 에 사유가 담김
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchOrderResultDTO {
+    private int index;
+    private Long orderId;
+    private BigDecimal totalAmount;
+    private String error;
+
+    public static BatchOrderResultDTO created(int index, Long orderId, BigDecimal totalAmount) {
+        return new BatchOrderResultDTO(index, orderId, totalAmount, null);
+    }
+
+    public static BatchOrderResultDTO rejected(int index, String error) {
+        return new BatchOrderResultDTO(index, null, null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
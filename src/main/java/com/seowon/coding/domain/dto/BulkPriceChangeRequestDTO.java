@@ -0,0 +1,18 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkPriceChangeRequestDTO {
+    private List<Long> productIds;
+    private Long percentage;
+    private boolean includeTax;
+}
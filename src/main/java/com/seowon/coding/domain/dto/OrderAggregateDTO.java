@@ -0,0 +1,36 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * 상태별 주문 집계 (bucketStart 는 구간 합계일 경우 null)
+ */
+@Getter
+@NoArgsConstructor
+public class OrderAggregateDTO {
+    private LocalDateTime bucketStart;
+    private Order.OrderStatus status;
+    private long orderCount;
+    private BigDecimal revenue;
+    private BigDecimal averageBasket;
+
+    public OrderAggregateDTO(Order.OrderStatus status, Long orderCount, BigDecimal revenue) {
+        this(null, status, orderCount, revenue);
+    }
+
+    public OrderAggregateDTO(LocalDateTime bucketStart, Order.OrderStatus status, Long orderCount, BigDecimal revenue) {
+        this.bucketStart = bucketStart;
+        this.status = status;
+        this.orderCount = orderCount == null ? 0 : orderCount;
+        this.revenue = revenue == null ? BigDecimal.ZERO : revenue;
+        this.averageBasket = this.orderCount == 0
+                ? BigDecimal.ZERO
+                : this.revenue.divide(BigDecimal.valueOf(this.orderCount), 2, RoundingMode.HALF_UP);
+    }
+}
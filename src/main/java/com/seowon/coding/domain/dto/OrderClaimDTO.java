@@ -0,0 +1,21 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 작업 큐에서 한 번에 claim 한 주문 묶음
+ * complete / release 호출 시 claimToken 을 함께 전달해야 함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderClaimDTO {
+    private String claimToken;
+    private LocalDateTime claimedUntil;
+    private List<OrderSummaryDTO> orders;
+}
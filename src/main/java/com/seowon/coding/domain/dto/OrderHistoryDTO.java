@@ -0,0 +1,21 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고객 주문 이력 한 페이지
+ * 다음 페이지는 nextOrderDate / nextId 를 before 커서로 넘겨서 조회 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderHistoryDTO {
+    private List<OrderSummaryDTO> orders;
+    private LocalDateTime nextOrderDate;
+    private Long nextId;
+}
@@ -0,0 +1,22 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이력 조회용 경량 요약 (items 를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSummaryDTO {
+    private Long id;
+    private Order.OrderStatus status;
+    private LocalDateTime orderDate;
+    private BigDecimal totalAmount;
+}
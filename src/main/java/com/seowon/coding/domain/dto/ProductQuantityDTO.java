@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 수량 합계 (일괄 취소 시 재고 복원량)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductQuantityDTO {
+    private Long productId;
+    private Long quantity;
+}
@@ -0,0 +1,18 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.service.OrderProduct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuoteRequestDTO {
+    private List<OrderProduct> products;
+    private String couponCode;
+}
@@ -0,0 +1,72 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아카이브된 주문 (orders_archive)
+ * OrderArchiveService 가 insert ... select 로만 채우며 애플리케이션에서는 읽기 전용
+ * id 는 원본 orders.id 를 그대로 사용
+ */
+@Entity
+@Table(name = "orders_archive",
+        indexes = {
+                @Index(name = "idx_orders_archive_customer_email_order_date", columnList = "customer_email, order_date desc, id desc"),
+                @Index(name = "idx_orders_archive_order_date", columnList = "order_date, id")
+        })
+@Getter
+@NoArgsConstructor
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    private String customerName;
+
+    private String customerEmail;
+
+    @Enumerated(EnumType.STRING)
+    private Order.OrderStatus status;
+
+    private LocalDateTime orderDate;
+
+    private BigDecimal totalAmount;
+
+    private LocalDateTime archivedAt;
+
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", insertable = false, updatable = false)
+    @OrderBy("id asc")
+    private List<ArchivedOrderItem> items = new ArrayList<>();
+
+    /**
+     * 기존 주문 조회 API 응답과 같은 모양의 (영속 상태가 아닌) Order 로 변환
+     * 상품은 id 만 채워짐
+     */
+    public Order toOrder() {
+        Order order = Order.builder()
+                .id(id)
+                .customerName(customerName)
+                .customerEmail(customerEmail)
+                .status(status)
+                .orderDate(orderDate)
+                .totalAmount(totalAmount)
+                .build();
+        for (ArchivedOrderItem item : items) {
+            order.getItems().add(OrderItem.builder()
+                    .id(item.getId())
+                    .order(order)
+                    .product(item.getProductId() == null ? null : Product.builder().id(item.getProductId()).build())
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice())
+                    .build());
+        }
+        return order;
+    }
+}
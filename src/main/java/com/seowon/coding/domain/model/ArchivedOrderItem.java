@@ -0,0 +1,32 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 아카이브된 주문 상품 (order_item_archive)
+ * 상품이 나중에 삭제될 수 있으므로 product_id 는 FK 없이 값으로만 보관
+ */
+@Entity
+@Table(name = "order_item_archive",
+        indexes = @Index(name = "idx_order_item_archive_order_id", columnList = "order_id"))
+@Getter
+@NoArgsConstructor
+public class ArchivedOrderItem {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    private int quantity;
+
+    private BigDecimal price;
+}
@@ -1,10 +1,16 @@
 package com.seowon.coding.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,15 +18,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders") // "order" is a reserved keyword in SQL
+@Table(name = "orders", // "order" is a reserved keyword in SQL
+        indexes = {
+                @Index(name = "idx_orders_customer_email_order_date", columnList = "customer_email, order_date desc, id desc"),
+                @Index(name = "idx_orders_status_order_date", columnList = "status, order_date, id"),
+                @Index(name = "idx_orders_claim_token", columnList = "claim_token")
+        })
 @Data
+@EqualsAndHashCode(callSuper = false)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Order {
+public class Order extends AbstractAggregateRoot<Order> {
 
+    // -Dorders.totals.verify=true 이면 증분 합계를 매번 전체 재계산과 비교 (테스트/디버깅용)
+    private static final boolean VERIFY_TOTALS = Boolean.getBoolean("orders.totals.verify");
+
+    // IDENTITY 는 insert 마다 즉시 실행되어 JDBC batch 가 꺼지므로 sequence(pooled) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     private String customerName;
@@ -36,44 +53,145 @@ public class Order {
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
     
+    // 청구 금액: checkout 은 가격 규칙(할인/배송비/세금) 적용 결과, 가격 규칙이 없는 주문은 recalculateTotalAmount()
+    // addItem/removeItem 은 바꾸지 않으므로 그 뒤로는 recalculateTotalAmount() 를 호출하기 전까지 이전 값 (상품 합계는 getItemsSubtotal)
     private BigDecimal totalAmount;
     
+    // 작업 큐(OrderQueueService) lease: 처리 중인 worker 의 claim 토큰과 만료 시각
+    @JsonIgnore
+    private String claimToken;
+    
+    @JsonIgnore
+    private LocalDateTime claimedUntil;
+    
+    // items 합계의 running total. 초기화된 final 필드라 builder / 생성자로 설정할 수 없음
+    // 로딩 / setItems 직후에는 비어 있고 처음 필요할 때 한 번만 전체 계산
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient RunningSubtotal itemsSubtotal = new RunningSubtotal();
+    
     // Business logic
+    // items 를 직접 수정하지 말고 addItem / removeItem 을 사용해야 running total 이 유지됨 (N 개 상품 주문 생성이 O(N))
     public void addItem(OrderItem item) {
+        BigDecimal subtotal = currentItemsSubtotal();
         items.add(item);
         item.setOrder(this);
-        recalculateTotalAmount();
+        applyItemsSubtotal(subtotal.add(item.getSubtotal()));
     }
     
     public void removeItem(OrderItem item) {
-        items.remove(item);
+        BigDecimal subtotal = currentItemsSubtotal();
+        if (items.remove(item)) {
+            subtotal = subtotal.subtract(item.getSubtotal());
+        }
         item.setOrder(null);
-        recalculateTotalAmount();
+        applyItemsSubtotal(subtotal);
     }
     
+    public void setItems(List<OrderItem> items) {
+        this.items = items;
+        this.itemsSubtotal.value = null;
+    }
+    
+    // 가격 규칙을 거치지 않는 주문: 상품 합계를 그대로 청구. items 를 직접 수정한 경우도 반영되도록 전체 재계산
     public void recalculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.itemsSubtotal.value = sumItems();
+        this.totalAmount = itemsSubtotal.value;
+    }
+    
+    // running total (저장/직렬화하지 않음)
+    @JsonIgnore
+    public BigDecimal getItemsSubtotal() {
+        return currentItemsSubtotal();
+    }
+    
+    private BigDecimal currentItemsSubtotal() {
+        if (itemsSubtotal.value == null) {
+            itemsSubtotal.value = sumItems();
+        }
+        return itemsSubtotal.value;
+    }
+    
+    private void applyItemsSubtotal(BigDecimal subtotal) {
+        itemsSubtotal.value = subtotal;
+        if (VERIFY_TOTALS) {
+            BigDecimal expected = sumItems();
+            if (expected.compareTo(subtotal) != 0) {
+                throw new IllegalStateException("Order total drifted: running=" + subtotal + ", recomputed=" + expected);
+            }
+        }
+    }
+    
+    private BigDecimal sumItems() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (OrderItem item : items) {
+            sum = sum.add(item.getSubtotal());
+        }
+        return sum;
+    }
+    
+    private static final class RunningSubtotal {
+        private BigDecimal value;
+    }
+    
+    public void markAsPending() {
+        changeStatus(OrderStatus.PENDING);
     }
     
     public void markAsProcessing() {
-        this.status = OrderStatus.PROCESSING;
+        changeStatus(OrderStatus.PROCESSING);
     }
     
     public void markAsShipped() {
-        this.status = OrderStatus.SHIPPED;
+        changeStatus(OrderStatus.SHIPPED);
     }
     
     public void markAsDelivered() {
-        this.status = OrderStatus.DELIVERED;
+        changeStatus(OrderStatus.DELIVERED);
     }
     
     public void markAsCancelled() {
-        this.status = OrderStatus.CANCELLED;
+        changeStatus(OrderStatus.CANCELLED);
+    }
+    
+    // 배송 전(PENDING, PROCESSING) 주문만 취소 가능
+    @JsonIgnore
+    public boolean isCancellable() {
+        return status == OrderStatus.PENDING || status == OrderStatus.PROCESSING;
+    }
+    
+    /**
+     * 주문 취소. 재고 복원은 호출하는 쪽 책임 (일괄 취소는 상품별로 합산해 한 번에 반영)
+     */
+    public void cancel() {
+        if (!isCancellable()) {
+            throw new IllegalStateException("Order " + id + " cannot be cancelled in status " + status);
+        }
+        markAsCancelled();
+    }
+    
+    // 상태 전이는 OrderStatusChangedEvent 로 기록되고 repository save 시점에 발행됨
+    private void changeStatus(OrderStatus next) {
+        OrderStatus previous = this.status;
+        this.status = next;
+        if (previous != next) {
+            registerEvent(new OrderStatusChangedEvent(this, previous, next));
+        }
     }
     
     public enum OrderStatus {
-        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED
+        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED;
+
+        // 처리 흐름의 다음 단계 또는 배송 전 취소만 허용 (DELIVERED, CANCELLED 는 종료 상태)
+        public boolean canTransitionTo(OrderStatus next) {
+            return switch (this) {
+                case PENDING -> next == PROCESSING || next == CANCELLED;
+                case PROCESSING -> next == SHIPPED || next == CANCELLED;
+                case SHIPPED -> next == DELIVERED;
+                case DELIVERED, CANCELLED -> false;
+            };
+        }
     }
 }
\ No newline at end of file
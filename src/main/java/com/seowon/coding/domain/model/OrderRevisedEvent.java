@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.model;
+
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태 전이 없이 주문 내용(상태, 주문일, 금액)이 통째로 바뀐 경우 (PUT 수정, 삭제)
+ * current 가 null 이면 삭제
+ */
+@Getter
+@AllArgsConstructor
+public class OrderRevisedEvent {
+    private final OrderSummaryDTO previous;
+    private final OrderSummaryDTO current;
+}
@@ -0,0 +1,60 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 주문일(orderDate) 기준 시간/일 버킷별, 현재 상태별 주문 수와 매출 합계
+ */
+@Entity
+@Table(name = "order_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_order_rollup_bucket", columnNames = {"granularity", "bucket_start", "status"})
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Granularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus status;
+
+    private long orderCount;
+
+    @Column(nullable = false)
+    private BigDecimal revenue;
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime bucketOf(LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+    }
+}
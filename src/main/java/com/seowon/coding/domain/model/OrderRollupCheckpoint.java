@@ -0,0 +1,29 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 롤업 flush 진행 시각 (단일 row)
+ * flushedAt 이전에 커밋된 변경분은 모두 롤업 테이블에 반영됨. 재시작 시 이 시각 이후의 outbox 이벤트로 유실분을 재계산
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollupCheckpoint {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    private LocalDateTime flushedAt;
+}
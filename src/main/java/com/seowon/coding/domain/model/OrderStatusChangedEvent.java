@@ -0,0 +1,20 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 상태 전이 이벤트
+ * previousStatus 가 null 이면 신규 주문 생성
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+    private final Order order;
+    private final Order.OrderStatus previousStatus;
+    private final Order.OrderStatus newStatus;
+
+    public boolean isPlaced() {
+        return previousStatus == null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox: 도메인 이벤트를 상태 변경과 같은 트랜잭션에 기록하고 relay 가 외부로 발행
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_published_at", columnList = "published_at, id")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    // 주문과 같은 트랜잭션에서 insert 되므로 Order 와 같이 sequence(pooled) 로 JDBC batch 에 포함
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    // 발행 중인 relay 의 claim 토큰과 lease 만료 시각. 발행 도중 relay 가 죽으면 만료 후 다른 relay 가 다시 claim
+    private String claimToken;
+
+    private LocalDateTime claimedUntil;
+}
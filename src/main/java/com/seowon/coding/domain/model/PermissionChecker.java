@@ -1,15 +1,18 @@
 package com.seowon.coding.domain.model;
 
 
-import lombok.Builder;
-
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 class PermissionChecker {
 
     /**
      * TODO #7: 코드를 최적화하세요
      * 테스트 코드`PermissionCheckerTest`를 활용하시면 리펙토링에 도움이 됩니다.
+     *
+     * users x groups x policies 중첩 탐색 대신 대상 사용자의 그룹 / 정책 id 만 모은 뒤 각 목록을 한 번씩 탐색
+     * (반복 조회하는 쪽은 PermissionIndex 를 한 번 만들어 아래 overload 로 재사용)
      */
     public static boolean hasPermission(
             String userId,
@@ -19,69 +22,59 @@ class PermissionChecker {
             List<UserGroup> groups,
             List<Policy> policies
     ) {
+        Set<String> groupIds = new HashSet<>();
         for (User user : users) {
             if (user.id.equals(userId)) {
-                for (String groupId : user.groupIds) {
-                    for (UserGroup group : groups) {
-                        if (group.id.equals(groupId)) {
-                            for (String policyId : group.policyIds) {
-                                for (Policy policy : policies) {
-                                    if (policy.id.equals(policyId)) {
-                                        for (Statement statement : policy.statements) {
-                                            if (statement.actions.contains(targetAction) &&
-                                                statement.resources.contains(targetResource)) {
-                                                return true;
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }
+                groupIds.addAll(nullToEmpty(user.groupIds));
+            }
+        }
+        if (groupIds.isEmpty()) {
+            return false;
+        }
+        Set<String> policyIds = new HashSet<>();
+        for (UserGroup group : groups) {
+            if (groupIds.contains(group.id)) {
+                policyIds.addAll(nullToEmpty(group.policyIds));
+            }
+        }
+        for (Policy policy : policies) {
+            if (policyIds.contains(policy.id)) {
+                for (Statement statement : nullToEmpty(policy.statements)) {
+                    if (nullToEmpty(statement.actions).contains(targetAction)
+                            && nullToEmpty(statement.resources).contains(targetResource)) {
+                        return true;
                     }
                 }
             }
         }
         return false;
     }
-}
-
-class User {
-    String id;
-    List<String> groupIds;
 
-    public User(String id, List<String> groupIds) {
-        this.id = id;
-        this.groupIds = groupIds;
+    public static boolean hasPermission(String userId, String targetResource, String targetAction, PermissionIndex index) {
+        return index.isAllowed(userId, targetAction, targetResource);
     }
-}
 
-class UserGroup {
-    String id;
-    List<String> policyIds;
-
-    public UserGroup(String id, List<String> policyIds) {
-        this.id = id;
-        this.policyIds = policyIds;
+    /**
+     * hasPermission 과 같은 판정을 근거(매칭 경로 또는 거부 사유)와 함께 반환
+     * (한 번만 확인할 때용. 반복 조회하는 쪽은 PermissionExplainer 를 한 번 만들어 아래 overload 로 재사용)
+     */
+    public static PermissionDecision explain(
+            String userId,
+            String targetResource,
+            String targetAction,
+            List<User> users,
+            List<UserGroup> groups,
+            List<Policy> policies
+    ) {
+        return new PermissionExplainer(users, groups, policies).explain(userId, targetAction, targetResource);
     }
-}
-
-class Policy {
-    String id;
-    List<Statement> statements;
 
-    public Policy(String id, List<Statement> statements) {
-        this.id = id;
-        this.statements = statements;
+    public static PermissionDecision explain(String userId, String targetResource, String targetAction,
+                                             PermissionExplainer explainer) {
+        return explainer.explain(userId, targetAction, targetResource);
     }
-}
-
-class Statement {
-    List<String> actions;
-    List<String> resources;
 
-    @Builder
-    public Statement(List<String> actions, List<String> resources) {
-        this.actions = actions;
-        this.resources = resources;
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
     }
-}
\ No newline at end of file
+}
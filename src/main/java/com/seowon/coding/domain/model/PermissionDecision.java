@@ -0,0 +1,46 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 권한 판정 결과와 근거
+ * 허용이면 처음 매칭된 user -> group -> policy -> statement 경로, 거부면 reason
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PermissionDecision {
+
+    private final boolean allowed;
+    private final String userId;
+    private final String action;
+    private final String resource;
+    private final String groupId;
+    private final String policyId;
+    // policy 안의 statement 순번 (0부터)
+    private final int statementIndex;
+    private final DenyReason reason;
+
+    public enum DenyReason {
+        UNKNOWN_USER, NO_GROUPS, NO_MATCHING_STATEMENT
+    }
+
+    static PermissionDecision allowed(String userId, String action, String resource,
+                                      String groupId, String policyId, int statementIndex) {
+        return new PermissionDecision(true, userId, action, resource, groupId, policyId, statementIndex, null);
+    }
+
+    static PermissionDecision denied(String userId, String action, String resource, DenyReason reason) {
+        return new PermissionDecision(false, userId, action, resource, null, null, -1, reason);
+    }
+
+    @Override
+    public String toString() {
+        if (allowed) {
+            return "allow " + action + " on " + resource + ": user " + userId + " -> group " + groupId
+                    + " -> policy " + policyId + " -> statement #" + statementIndex;
+        }
+        return "deny " + action + " on " + resource + " for user " + userId + ": " + reason;
+    }
+}
@@ -0,0 +1,57 @@
+package com.seowon.coding.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판정 근거 추적용 (느린 경로)
+ * 원본 모델을 id 별로 묶어 두고 user -> groups -> policies -> statements 를 선언 순서대로 탐색
+ * PermissionIndex 와 같은 규칙: 없는 group / policy id 는 무시, 같은 id 가 여러 번 나오면 합침
+ */
+public class PermissionExplainer {
+
+    private final Map<String, List<String>> groupIdsByUser = new HashMap<>();
+    private final Map<String, List<String>> policyIdsByGroup = new HashMap<>();
+    private final Map<String, List<Statement>> statementsByPolicy = new HashMap<>();
+
+    public PermissionExplainer(Collection<User> users, Collection<UserGroup> groups, Collection<Policy> policies) {
+        for (User user : users) {
+            groupIdsByUser.computeIfAbsent(user.id, id -> new ArrayList<>()).addAll(nullToEmpty(user.groupIds));
+        }
+        for (UserGroup group : groups) {
+            policyIdsByGroup.computeIfAbsent(group.id, id -> new ArrayList<>()).addAll(nullToEmpty(group.policyIds));
+        }
+        for (Policy policy : policies) {
+            statementsByPolicy.computeIfAbsent(policy.id, id -> new ArrayList<>()).addAll(nullToEmpty(policy.statements));
+        }
+    }
+
+    public PermissionDecision explain(String userId, String action, String resource) {
+        List<String> groupIds = groupIdsByUser.get(userId);
+        if (groupIds == null) {
+            return PermissionDecision.denied(userId, action, resource, PermissionDecision.DenyReason.UNKNOWN_USER);
+        }
+        if (groupIds.isEmpty()) {
+            return PermissionDecision.denied(userId, action, resource, PermissionDecision.DenyReason.NO_GROUPS);
+        }
+        for (String groupId : groupIds) {
+            for (String policyId : policyIdsByGroup.getOrDefault(groupId, List.of())) {
+                List<Statement> statements = statementsByPolicy.getOrDefault(policyId, List.of());
+                for (int i = 0; i < statements.size(); i++) {
+                    Statement statement = statements.get(i);
+                    if (nullToEmpty(statement.actions).contains(action) && nullToEmpty(statement.resources).contains(resource)) {
+                        return PermissionDecision.allowed(userId, action, resource, groupId, policyId, i);
+                    }
+                }
+            }
+        }
+        return PermissionDecision.denied(userId, action, resource, PermissionDecision.DenyReason.NO_MATCHING_STATEMENT);
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
@@ -0,0 +1,464 @@
+package com.seowon.coding.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * users -> groups -> policies -> statements 를 사용자별 grant 집합으로 미리 펼친 권한 인덱스
+ * - action / resource 는 compile 시 dense int id 로 변환, grant 는 (actionId << 32 | resourceId) 정렬 long[]
+ * - 같은 grant 집합은 하나의 배열을 공유 (대부분의 사용자는 소수의 그룹 조합에 속함)
+ * - 사용자 id -> grant 집합은 open addressing 테이블 (사용자당 Map/Set 객체 없음)
+ * - compile 의 사용자별 grant 계산은 사용자 구간 단위 fork/join 으로 병렬 수행
+ * - 조회는 사전 lookup 두 번 + 사용자 slot 탐색 + binary search (모델 크기와 거의 무관)
+ * - 사용자 테이블과 grant 배열은 Store 뒤에 있음: compile 결과는 heap 배열, 스냅샷 로딩 결과는 mmap 버퍼를 그대로 사용
+ * - 불변: 정책이 바뀌면 새로 compile 해서 교체
+ */
+public final class PermissionIndex {
+
+    private static final long[] NO_GRANTS = new long[0];
+    private static final PermissionIndex EMPTY = new PermissionIndex(
+            new String[0], new String[0], new HeapStore(new long[][]{NO_GRANTS}, new UserTable(0)));
+
+    private final Map<String, Integer> actionIds;
+    private final Map<String, Integer> resourceIds;
+    private final String[] actions;
+    private final String[] resources;
+    private final Store store;
+
+    private PermissionIndex(String[] actions, String[] resources, Store store) {
+        this.actions = actions;
+        this.resources = resources;
+        this.actionIds = dictionary(actions);
+        this.resourceIds = dictionary(resources);
+        this.store = store;
+    }
+
+    public static PermissionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 스냅샷 로딩용: action / resource 사전만 heap 에 두고 사용자 / grant 조회는 store 에 위임
+     */
+    static PermissionIndex of(String[] actions, String[] resources, Store store) {
+        return new PermissionIndex(actions, resources, store);
+    }
+
+    /**
+     * 호출 thread 에서 순차 compile. 병렬 compile 은 시작 시 한 번 만드는 경우(PermissionConfig)에만 사용
+     */
+    public static PermissionIndex compile(Collection<User> users, Collection<UserGroup> groups, Collection<Policy> policies) {
+        return compile(users, groups, policies, 1);
+    }
+
+    /**
+     * @param parallelism 사용자별 grant 계산에 쓸 thread 수 (1 이면 호출 thread 에서 순차 실행)
+     */
+    public static PermissionIndex compile(Collection<User> users, Collection<UserGroup> groups,
+                                          Collection<Policy> policies, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        Map<String, Integer> actionIds = new LinkedHashMap<>();
+        Map<String, Integer> resourceIds = new LinkedHashMap<>();
+
+        Map<String, long[]> byPolicy = new HashMap<>();
+        for (Policy policy : policies) {
+            GrantBuilder grants = new GrantBuilder();
+            grants.addAll(byPolicy.get(policy.id));
+            for (Statement statement : nullToEmpty(policy.statements)) {
+                for (String action : nullToEmpty(statement.actions)) {
+                    int actionId = actionIds.computeIfAbsent(action, a -> actionIds.size());
+                    for (String resource : nullToEmpty(statement.resources)) {
+                        grants.add(pack(actionId, resourceIds.computeIfAbsent(resource, r -> resourceIds.size())));
+                    }
+                }
+            }
+            byPolicy.put(policy.id, grants.build());
+        }
+
+        Map<String, long[]> byGroup = new HashMap<>();
+        for (UserGroup group : groups) {
+            GrantBuilder grants = new GrantBuilder();
+            grants.addAll(byGroup.get(group.id));
+            for (String policyId : nullToEmpty(group.policyIds)) {
+                grants.addAll(byPolicy.get(policyId));
+            }
+            byGroup.put(group.id, grants.build());
+        }
+
+        // 사용자별 grant 계산 (병렬): 같은 그룹 조합은 한 번만 계산하고 같은 배열을 공유
+        User[] userArray = users.toArray(User[]::new);
+        long[][] resolved = new long[userArray.length][];
+        Map<List<String>, long[]> byGroupIds = new ConcurrentHashMap<>();
+        Function<List<String>, long[]> resolver = groupIds -> byGroupIds.computeIfAbsent(groupIds, ids -> {
+            GrantBuilder grants = new GrantBuilder();
+            for (String groupId : ids) {
+                grants.addAll(byGroup.get(groupId));
+            }
+            return grants.build();
+        });
+        ResolveUsers task = new ResolveUsers(userArray, resolved, resolver, 0, userArray.length);
+        if (parallelism == 1 || userArray.length <= ResolveUsers.THRESHOLD) {
+            task.computeDirectly();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // 내용이 같은 배열을 하나로 합치고 사용자 테이블 구성 (입력 순서대로 순차 실행해 id 가 결정적)
+        GrantSets grantSets = new GrantSets();
+        Map<long[], Integer> grantSetIds = new IdentityHashMap<>();
+        UserTable userTable = new UserTable(userArray.length);
+        IntBinaryOperator mergeDuplicateUser = (previous, next) -> {
+            GrantBuilder merged = new GrantBuilder();
+            merged.addAll(grantSets.get(previous));
+            merged.addAll(grantSets.get(next));
+            return grantSets.intern(merged.build());
+        };
+        for (int i = 0; i < userArray.length; i++) {
+            int grantSet = grantSetIds.computeIfAbsent(resolved[i], grantSets::intern);
+            userTable.put(userArray[i].id, grantSet, mergeDuplicateUser);
+        }
+        return new PermissionIndex(actionIds.keySet().toArray(String[]::new), resourceIds.keySet().toArray(String[]::new),
+                new HeapStore(grantSets.toArray(), userTable));
+    }
+
+    public boolean isAllowed(String userId, String action, String resource) {
+        if (userId == null) {
+            return false;
+        }
+        Integer actionId = actionIds.get(action);
+        Integer resourceId = resourceIds.get(resource);
+        if (actionId == null || resourceId == null) {
+            return false;
+        }
+        int grantSet = store.grantSetOf(userId);
+        return grantSet >= 0 && store.contains(grantSet, pack(actionId, resourceId));
+    }
+
+    public int userCount() {
+        return store.userCount();
+    }
+
+    public int grantSetCount() {
+        return store.grantSetCount();
+    }
+
+    /**
+     * 인덱스가 차지하는 heap 추정치 (64bit JVM, compressed oops, Latin-1 문자열 기준)
+     * 사용자 id 문자열 자체도 포함. mmap 스냅샷의 사용자 / grant 는 heap 밖이므로 제외
+     */
+    public long estimatedBytes() {
+        long bytes = store.estimatedHeapBytes();
+        for (String value : actions) {
+            bytes += stringBytes(value) + 48;
+        }
+        for (String value : resources) {
+            bytes += stringBytes(value) + 48;
+        }
+        return bytes;
+    }
+
+    String[] actions() {
+        return actions;
+    }
+
+    String[] resources() {
+        return resources;
+    }
+
+    long[] grantSet(int id) {
+        return store.grantSet(id);
+    }
+
+    /**
+     * 스냅샷 저장용: 사용자 id 와 grant 집합 index 를 테이블 순서대로 전달
+     */
+    void forEachUser(UserGrantConsumer consumer) {
+        store.forEachUser(consumer);
+    }
+
+    @FunctionalInterface
+    interface UserGrantConsumer {
+        void accept(String userId, int grantSet);
+    }
+
+    /**
+     * 사용자 id -> grant 집합, grant 집합 -> 정렬된 grant 목록
+     */
+    interface Store {
+        // 없으면 -1
+        int grantSetOf(String userId);
+
+        boolean contains(int grantSet, long grant);
+
+        int userCount();
+
+        int grantSetCount();
+
+        long[] grantSet(int id);
+
+        void forEachUser(UserGrantConsumer consumer);
+
+        long estimatedHeapBytes();
+    }
+
+    static long pack(int actionId, int resourceId) {
+        return ((long) actionId << 32) | (resourceId & 0xFFFFFFFFL);
+    }
+
+    // 스냅샷의 사용자 테이블도 같은 slot 계산을 사용
+    static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B1;
+    }
+
+    private static Map<String, Integer> dictionary(String[] values) {
+        Map<String, Integer> ids = new HashMap<>(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            ids.put(values[i], i);
+        }
+        return ids;
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return align(16L + (long) length * elementBytes);
+    }
+
+    private static long stringBytes(String value) {
+        return 24 + arrayBytes(value.length(), 1);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private record HeapStore(long[][] grantSets, UserTable users) implements Store {
+        @Override
+        public int grantSetOf(String userId) {
+            return users.get(userId);
+        }
+
+        @Override
+        public boolean contains(int grantSet, long grant) {
+            return Arrays.binarySearch(grantSets[grantSet], grant) >= 0;
+        }
+
+        @Override
+        public int userCount() {
+            return users.size;
+        }
+
+        @Override
+        public int grantSetCount() {
+            return grantSets.length;
+        }
+
+        @Override
+        public long[] grantSet(int id) {
+            return grantSets[id];
+        }
+
+        @Override
+        public void forEachUser(UserGrantConsumer consumer) {
+            for (int slot = 0; slot < users.keys.length; slot++) {
+                if (users.keys[slot] != null) {
+                    consumer.accept(users.keys[slot], users.grantSets[slot]);
+                }
+            }
+        }
+
+        @Override
+        public long estimatedHeapBytes() {
+            long bytes = arrayBytes(users.keys.length, 4) + arrayBytes(users.grantSets.length, 4)
+                    + arrayBytes(grantSets.length, 4);
+            for (long[] grants : grantSets) {
+                bytes += arrayBytes(grants.length, 8);
+            }
+            for (String key : users.keys) {
+                if (key != null) {
+                    bytes += stringBytes(key);
+                }
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 사용자 id -> grant 집합 index. linear probing, load factor 0.5 이하
+     */
+    private static final class UserTable {
+        private final String[] keys;
+        private final int[] grantSets;
+        private final int mask;
+        private int size;
+
+        UserTable(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+            this.keys = new String[capacity];
+            this.grantSets = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        void put(String userId, int grantSet, IntBinaryOperator mergeDuplicate) {
+            int slot = probe(userId);
+            if (keys[slot] == null) {
+                keys[slot] = userId;
+                grantSets[slot] = grantSet;
+                size++;
+            } else if (grantSets[slot] != grantSet) {
+                grantSets[slot] = mergeDuplicate.applyAsInt(grantSets[slot], grantSet);
+            }
+        }
+
+        // 없으면 -1
+        int get(String userId) {
+            int slot = probe(userId);
+            return keys[slot] == null ? -1 : grantSets[slot];
+        }
+
+        private int probe(String userId) {
+            int slot = spread(userId.hashCode()) & mask;
+            while (keys[slot] != null && !keys[slot].equals(userId)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * 사용자 구간을 THRESHOLD 이하로 나눠 각 사용자의 grant 배열을 계산
+     */
+    private static final class ResolveUsers extends RecursiveAction {
+        static final int THRESHOLD = 4096;
+
+        private final User[] users;
+        private final long[][] resolved;
+        private final Function<List<String>, long[]> resolver;
+        private final int from;
+        private final int to;
+
+        ResolveUsers(User[] users, long[][] resolved, Function<List<String>, long[]> resolver, int from, int to) {
+            this.users = users;
+            this.resolved = resolved;
+            this.resolver = resolver;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                computeDirectly();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ResolveUsers(users, resolved, resolver, from, mid),
+                    new ResolveUsers(users, resolved, resolver, mid, to));
+        }
+
+        void computeDirectly() {
+            for (int i = from; i < to; i++) {
+                resolved[i] = resolver.apply(nullToEmpty(users[i].groupIds));
+            }
+        }
+    }
+
+    /**
+     * 정렬된 long[] 들을 합쳐 중복 없는 정렬 배열로 만듦
+     */
+    private static final class GrantBuilder {
+        private long[] values = NO_GRANTS;
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        void addAll(long[] grants) {
+            if (grants == null) {
+                return;
+            }
+            if (size + grants.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + grants.length, size * 2));
+            }
+            System.arraycopy(grants, 0, values, size, grants.length);
+            size += grants.length;
+        }
+
+        long[] build() {
+            if (size == 0) {
+                return NO_GRANTS;
+            }
+            Arrays.sort(values, 0, size);
+            int unique = 1;
+            for (int i = 1; i < size; i++) {
+                if (values[i] != values[unique - 1]) {
+                    values[unique++] = values[i];
+                }
+            }
+            return Arrays.copyOf(values, unique);
+        }
+    }
+
+    /**
+     * 내용이 같은 grant 배열을 하나로 합치는 테이블. index 0 은 항상 빈 집합
+     */
+    private static final class GrantSets {
+        private final Map<GrantKey, Integer> ids = new HashMap<>();
+        private final List<long[]> sets = new ArrayList<>();
+
+        GrantSets() {
+            intern(NO_GRANTS);
+        }
+
+        int intern(long[] grants) {
+            return ids.computeIfAbsent(new GrantKey(grants), key -> {
+                sets.add(grants);
+                return sets.size() - 1;
+            });
+        }
+
+        long[] get(int id) {
+            return sets.get(id);
+        }
+
+        long[][] toArray() {
+            return sets.toArray(long[][]::new);
+        }
+    }
+
+    private record GrantKey(long[] grants) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GrantKey other && Arrays.equals(grants, other.grants);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(grants);
+        }
+    }
+}
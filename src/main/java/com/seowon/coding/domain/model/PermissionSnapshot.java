@@ -0,0 +1,425 @@
+package com.seowon.coding.domain.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * compile 된 PermissionIndex 의 바이너리 스냅샷 (기동 시 compile 대신 mmap 으로 읽어 바로 사용)
+ *
+ * 형식 (big-endian, offset 은 payload 시작 기준)
+ *   header : magic(int) version(int) sourceFingerprint(long) payloadLength(int) crc32(int)
+ *   payload: actionCount(int) { string }  resourceCount(int) { string }
+ *            grantSetCount(int) { offset(int) length(int) }
+ *            userCount(int) capacity(int) { hash(int) keyOffset(int) grantSet(int) }   (빈 slot 은 keyOffset -1)
+ *            grant 영역 { (actionId << 32 | resourceId)(long) }  사용자 id 영역 { string }
+ *   string : length(int) utf8 bytes
+ * - 사용자 slot 은 PermissionIndex 와 같은 해시 / linear probing 이라 로딩 시 재배치 없음
+ * - action / resource 사전만 heap 으로 읽고 사용자 테이블과 grant 는 mmap 버퍼에서 바로 조회 (heap 복사 없음)
+ * - 파일은 항상 새 파일로 원자적 교체만 하므로 이미 map 된 이전 파일 내용은 바뀌지 않음
+ * - sourceFingerprint 가 현재 정책 원본과 다르거나 version 이 다르면 stale 로 보고 사용하지 않음
+ * - magic / 길이 / checksum 이 맞지 않으면 손상된 파일로 IllegalStateException
+ */
+public final class PermissionSnapshot {
+
+    static final int MAGIC = 0x50524D31; // "PRM1"
+    static final int VERSION = 3;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4;
+    private static final int GRANT_INDEX_BYTES = 4 + 4;
+    private static final int SLOT_BYTES = 4 + 4 + 4;
+    private static final int EMPTY_SLOT = -1;
+
+    private PermissionSnapshot() {
+    }
+
+    /**
+     * 정책 원본(users, groups, policies) 의 내용 해시. 순서까지 같아야 같은 값
+     * 원본 객체 없이 설정 값에서 바로 계산할 때는 같은 순서 / tag 로 Fingerprint 를 채우면 같은 값이 나옴
+     */
+    public static long fingerprint(Collection<User> users, Collection<UserGroup> groups, Collection<Policy> policies) {
+        Fingerprint fingerprint = new Fingerprint();
+        for (User user : users) {
+            fingerprint.add("u", user.id);
+            for (String groupId : nullToEmpty(user.groupIds)) {
+                fingerprint.add("g", groupId);
+            }
+        }
+        for (UserGroup group : groups) {
+            fingerprint.add("G", group.id);
+            for (String policyId : nullToEmpty(group.policyIds)) {
+                fingerprint.add("p", policyId);
+            }
+        }
+        for (Policy policy : policies) {
+            fingerprint.add("P", policy.id);
+            for (Statement statement : nullToEmpty(policy.statements)) {
+                fingerprint.add("S", "");
+                for (String action : nullToEmpty(statement.actions)) {
+                    fingerprint.add("a", action);
+                }
+                for (String resource : nullToEmpty(statement.resources)) {
+                    fingerprint.add("r", resource);
+                }
+            }
+        }
+        return fingerprint.value();
+    }
+
+    /**
+     * tag + 값 나열의 SHA-256 앞 8 byte
+     */
+    public static final class Fingerprint {
+
+        private final MessageDigest digest = sha256();
+
+        public Fingerprint add(String tag, String value) {
+            digest.update(tag.getBytes(StandardCharsets.UTF_8));
+            byte[] utf8 = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(4).putInt(utf8.length).array());
+            digest.update(utf8);
+            return this;
+        }
+
+        public long value() {
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        }
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체 (읽는 쪽이 쓰다 만 파일을 보지 않음)
+     */
+    public static void write(PermissionIndex index, long sourceFingerprint, Path path) throws IOException {
+        ByteBuffer payload = encode(index);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(sourceFingerprint)
+                .putInt(payload.remaining())
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, payload};
+                while (payload.hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(true);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @return 파일이 없거나 version / sourceFingerprint 가 다르면 empty
+     */
+    public static Optional<PermissionIndex> read(Path path, long sourceFingerprint) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Invalid permission snapshot size: " + size);
+            }
+            // mapping 은 channel 을 닫아도 유효
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a permission snapshot: " + path);
+            }
+            if (buffer.getInt() != VERSION || buffer.getLong() != sourceFingerprint) {
+                return Optional.empty();
+            }
+            int payloadLength = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (payloadLength != size - HEADER_BYTES) {
+                throw new IllegalStateException("Truncated permission snapshot: " + path);
+            }
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalStateException("Permission snapshot checksum mismatch: " + path);
+            }
+            return Optional.of(decode(payload));
+        }
+    }
+
+    private static ByteBuffer encode(PermissionIndex index) {
+        byte[][] actions = utf8(index.actions());
+        byte[][] resources = utf8(index.resources());
+        int grantSetCount = index.grantSetCount();
+        long[][] grantSets = new long[grantSetCount][];
+        for (int i = 0; i < grantSetCount; i++) {
+            grantSets[i] = index.grantSet(i);
+        }
+        List<byte[]> userIds = new ArrayList<>(index.userCount());
+        List<Integer> hashes = new ArrayList<>(index.userCount());
+        List<Integer> grantSetOfUser = new ArrayList<>(index.userCount());
+        index.forEachUser((userId, grantSet) -> {
+            userIds.add(userId.getBytes(StandardCharsets.UTF_8));
+            hashes.add(userId.hashCode());
+            grantSetOfUser.add(grantSet);
+        });
+        int capacity = Integer.highestOneBit(Math.max(userIds.size() * 2, 2) - 1) << 1;
+
+        int grantIndexAt = 4 + stringsBytes(actions) + 4 + stringsBytes(resources) + 4;
+        int slotsAt = grantIndexAt + grantSetCount * GRANT_INDEX_BYTES + 4 + 4;
+        int dataAt = slotsAt + capacity * SLOT_BYTES;
+        long size = dataAt;
+        for (long[] grants : grantSets) {
+            size += (long) grants.length * Long.BYTES;
+        }
+        for (byte[] userId : userIds) {
+            size += 4 + userId.length;
+        }
+        if (size > Integer.MAX_VALUE - HEADER_BYTES) {
+            throw new IllegalStateException("Permission index too large for snapshot: " + size + " bytes");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        putStrings(out, actions);
+        putStrings(out, resources);
+        out.putInt(grantSetCount);
+        int dataPosition = dataAt;
+        for (long[] grants : grantSets) {
+            out.putInt(dataPosition).putInt(grants.length);
+            for (int i = 0; i < grants.length; i++) {
+                out.putLong(dataPosition + i * Long.BYTES, grants[i]);
+            }
+            dataPosition += grants.length * Long.BYTES;
+        }
+        out.putInt(userIds.size()).putInt(capacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            out.putInt(slotsAt + slot * SLOT_BYTES + 4, EMPTY_SLOT);
+        }
+        int mask = capacity - 1;
+        for (int u = 0; u < userIds.size(); u++) {
+            int hash = hashes.get(u);
+            int slot = PermissionIndex.spread(hash) & mask;
+            while (out.getInt(slotsAt + slot * SLOT_BYTES + 4) != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            int at = slotsAt + slot * SLOT_BYTES;
+            out.putInt(at, hash).putInt(at + 4, dataPosition).putInt(at + 8, grantSetOfUser.get(u));
+            byte[] userId = userIds.get(u);
+            out.putInt(dataPosition, userId.length).put(dataPosition + 4, userId);
+            dataPosition += 4 + userId.length;
+        }
+        return out.clear();
+    }
+
+    private static PermissionIndex decode(ByteBuffer payload) {
+        String[] actions = readStrings(payload);
+        String[] resources = readStrings(payload);
+        int grantSetCount = payload.getInt();
+        int grantIndexAt = payload.position();
+        payload.position(grantIndexAt + grantSetCount * GRANT_INDEX_BYTES);
+        int userCount = payload.getInt();
+        int capacity = payload.getInt();
+        if (Integer.bitCount(capacity) != 1 || userCount >= capacity) {
+            throw new IllegalStateException("Invalid permission snapshot user table: " + userCount + "/" + capacity);
+        }
+        return PermissionIndex.of(actions, resources,
+                new MappedStore(payload, grantIndexAt, grantSetCount, payload.position(), capacity, userCount));
+    }
+
+    /**
+     * mmap 버퍼를 그대로 쓰는 사용자 / grant 조회. 절대 위치 get 만 사용하므로 여러 thread 가 공유해도 안전
+     */
+    private static final class MappedStore implements PermissionIndex.Store {
+
+        private final ByteBuffer payload;
+        private final int grantIndexAt;
+        private final int grantSetCount;
+        private final int slotsAt;
+        private final int mask;
+        private final int userCount;
+
+        private MappedStore(ByteBuffer payload, int grantIndexAt, int grantSetCount,
+                            int slotsAt, int capacity, int userCount) {
+            this.payload = payload;
+            this.grantIndexAt = grantIndexAt;
+            this.grantSetCount = grantSetCount;
+            this.slotsAt = slotsAt;
+            this.mask = capacity - 1;
+            this.userCount = userCount;
+        }
+
+        @Override
+        public int grantSetOf(String userId) {
+            int hash = userId.hashCode();
+            int slot = PermissionIndex.spread(hash) & mask;
+            while (true) {
+                int at = slotsAt + slot * SLOT_BYTES;
+                int keyOffset = payload.getInt(at + 4);
+                if (keyOffset == EMPTY_SLOT) {
+                    return -1;
+                }
+                if (payload.getInt(at) == hash && keyEquals(keyOffset, userId)) {
+                    return payload.getInt(at + 8);
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        @Override
+        public boolean contains(int grantSet, long grant) {
+            int at = grantIndexAt + grantSet * GRANT_INDEX_BYTES;
+            int offset = payload.getInt(at);
+            int low = 0;
+            int high = payload.getInt(at + 4) - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = payload.getLong(offset + mid * Long.BYTES);
+                if (value < grant) {
+                    low = mid + 1;
+                } else if (value > grant) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int userCount() {
+            return userCount;
+        }
+
+        @Override
+        public int grantSetCount() {
+            return grantSetCount;
+        }
+
+        @Override
+        public long[] grantSet(int id) {
+            int at = grantIndexAt + id * GRANT_INDEX_BYTES;
+            int offset = payload.getInt(at);
+            long[] grants = new long[payload.getInt(at + 4)];
+            for (int i = 0; i < grants.length; i++) {
+                grants[i] = payload.getLong(offset + i * Long.BYTES);
+            }
+            return grants;
+        }
+
+        @Override
+        public void forEachUser(PermissionIndex.UserGrantConsumer consumer) {
+            for (int slot = 0; slot <= mask; slot++) {
+                int at = slotsAt + slot * SLOT_BYTES;
+                int keyOffset = payload.getInt(at + 4);
+                if (keyOffset != EMPTY_SLOT) {
+                    byte[] utf8 = new byte[payload.getInt(keyOffset)];
+                    payload.get(keyOffset + 4, utf8);
+                    consumer.accept(new String(utf8, StandardCharsets.UTF_8), payload.getInt(at + 8));
+                }
+            }
+        }
+
+        @Override
+        public long estimatedHeapBytes() {
+            return 64;
+        }
+
+        // 대부분의 principal 이름은 ASCII 라 문자열을 만들지 않고 byte 단위로 비교
+        private boolean keyEquals(int keyOffset, String userId) {
+            int length = payload.getInt(keyOffset);
+            if (length == userId.length()) {
+                int i = 0;
+                for (; i < length; i++) {
+                    char c = userId.charAt(i);
+                    if (c >= 0x80) {
+                        break;
+                    }
+                    if (payload.get(keyOffset + 4 + i) != (byte) c) {
+                        return false;
+                    }
+                }
+                if (i == length) {
+                    return true;
+                }
+            }
+            byte[] utf8 = userId.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (payload.get(keyOffset + 4 + i) != utf8[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static byte[][] utf8(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static int stringsBytes(byte[][] values) {
+        int bytes = 0;
+        for (byte[] value : values) {
+            bytes += 4 + value.length;
+        }
+        return bytes;
+    }
+
+    private static void putStrings(ByteBuffer out, byte[][] values) {
+        out.putInt(values.length);
+        for (byte[] value : values) {
+            out.putInt(value.length).put(value);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] values = new String[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(buffer);
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[buffer.getInt()];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class Policy {
+    String id;
+    List<Statement> statements;
+
+    public Policy(String id, List<Statement> statements) {
+        this.id = id;
+        this.statements = statements;
+    }
+}
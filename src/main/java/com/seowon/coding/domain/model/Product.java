@@ -1,5 +1,6 @@
 package com.seowon.coding.domain.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -10,10 +11,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
 
 import java.math.BigDecimal;
 
+// 2차 캐시(read-mostly). 캐시된 값으로 재고를 차감해도 lost update 가 없도록
+// 변경된 컬럼의 이전 값을 where 조건에 넣는 optimistic lock 사용 (충돌 시 OptimisticLockingFailureException)
+// @Version 은 id 만 채운 detached Product 를 save 하는 updateProduct 를 신규 저장으로 만들기 때문에 사용하지 않음
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@OptimisticLocking(type = OptimisticLockType.DIRTY)
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,21 @@
+package com.seowon.coding.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * actions x resources 조합을 허용하는 정책 항목
+ */
+@Getter
+public class Statement {
+    List<String> actions;
+    List<String> resources;
+
+    @Builder
+    public Statement(List<String> actions, List<String> resources) {
+        this.actions = actions;
+        this.resources = resources;
+    }
+}
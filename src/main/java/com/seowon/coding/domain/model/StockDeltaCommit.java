@@ -0,0 +1,30 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 delta log 에 기록된 트랜잭션의 커밋 표시
+ * 주문과 같은 트랜잭션에서 저장되므로, 로그 재생 시 이 표시가 있는 txId 의 record 만 반영
+ * (로그 기록 후 DB 커밋 전에 실패/종료된 트랜잭션의 record 는 무시됨)
+ * segment 가 checkpoint 되면 함께 삭제
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_stock_delta_commit_segment", columnList = "segment"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockDeltaCommit {
+
+    @Id
+    private Long txId;
+
+    private long segment;
+}
@@ -0,0 +1,29 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영이 끝난 재고 delta log segment
+ * 재고 update 와 같은 트랜잭션에서 저장되며, 로그 재생 시 이미 반영된 segment 를 건너뛰는 데 사용
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockFlushCheckpoint {
+
+    @Id
+    private Long segment;
+
+    private int products;
+
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,19 @@
+package com.seowon.coding.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 권한 모델의 사용자 (인증 principal 이름과 같은 id)
+ */
+@Getter
+public class User {
+    String id;
+    List<String> groupIds;
+
+    public User(String id, List<String> groupIds) {
+        this.id = id;
+        this.groupIds = groupIds;
+    }
+}
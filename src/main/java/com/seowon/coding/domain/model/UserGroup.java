@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserGroup {
+    String id;
+    List<String> policyIds;
+
+    public UserGroup(String id, List<String> policyIds) {
+        this.id = id;
+        this.policyIds = policyIds;
+    }
+}
@@ -0,0 +1,50 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.ArchivedOrder;
+import com.seowon.coding.domain.model.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<ArchivedOrder> findWithItemsById(Long id);
+
+    // OrderRepository 의 고객 이력 keyset 쿼리와 같은 정렬/커서 규칙
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from ArchivedOrder o where o.customerEmail = :email " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDTO> findSummariesByCustomerEmail(@Param("email") String email, Pageable pageable);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from ArchivedOrder o where o.customerEmail = :email " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDTO> findSummariesByCustomerEmailBefore(@Param("email") String email,
+                                                             @Param("orderDate") LocalDateTime orderDate,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    @EntityGraph(attributePaths = "items")
+    List<ArchivedOrder> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
+
+    @EntityGraph(attributePaths = "items")
+    List<ArchivedOrder> findByStatus(Order.OrderStatus status);
+
+    // OrderRepository.streamSummariesByOrderDateRange 와 같은 구간 규칙 (롤업 재계산용)
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from ArchivedOrder o where o.orderDate >= :from and o.orderDate < :to")
+    Stream<OrderSummaryDTO> streamSummariesByOrderDateRange(@Param("from") LocalDateTime from,
+                                                            @Param("to") LocalDateTime to);
+}
@@ -1,18 +1,110 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.dto.ProductQuantityDTO;
 import com.seowon.coding.domain.model.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // 목록 응답 직렬화 시 주문마다 items/product 를 lazy 로딩하지 않도록 한 번에 fetch
+    @Override
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    List<Order> findAll();
     
     List<Order> findByCustomerEmail(String email);
+
+    // 고객 주문 이력: (customer_email, order_date desc, id desc) 인덱스를 타는 keyset 페이지네이션
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.customerEmail = :email " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDTO> findSummariesByCustomerEmail(@Param("email") String email, Pageable pageable);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.customerEmail = :email " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderSummaryDTO> findSummariesByCustomerEmailBefore(@Param("email") String email,
+                                                             @Param("orderDate") LocalDateTime orderDate,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
     
+    @EntityGraph(attributePaths = {"items", "items.product"})
     List<Order> findByStatus(Order.OrderStatus status);
+
+    // 작업 큐: 상태별로 lease 가 없거나 만료된 주문을 오래된 순서로 조회
+    @Query("select o.id from Order o where o.status = :status " +
+            "and (o.claimedUntil is null or o.claimedUntil < :now) " +
+            "order by o.orderDate asc, o.id asc")
+    List<Long> findClaimableIds(@Param("status") Order.OrderStatus status,
+                                @Param("now") LocalDateTime now,
+                                Pageable pageable);
+
+    // 조건부 UPDATE 로 claim: 동시에 같은 후보를 본 worker 중 한 명만 성공
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.claimToken = :token, o.claimedUntil = :until " +
+            "where o.id in :ids and o.status = :status " +
+            "and (o.claimedUntil is null or o.claimedUntil < :now)")
+    int claim(@Param("ids") List<Long> ids,
+              @Param("status") Order.OrderStatus status,
+              @Param("token") String token,
+              @Param("until") LocalDateTime until,
+              @Param("now") LocalDateTime now);
+
+    @Query("select o from Order o where o.claimToken = :token order by o.orderDate asc, o.id asc")
+    List<Order> findByClaimToken(@Param("token") String token);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.claimToken = null, o.claimedUntil = null " +
+            "where o.id = :id and o.claimToken = :token")
+    int release(@Param("id") Long id, @Param("token") String token);
+
+    // lease 를 가진 worker 만 상태를 바꾸고 claim 을 해제. 만료되었거나 다른 worker 가 다시 claim 한 경우 0 건
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.claimToken = null, o.claimedUntil = null " +
+            "where o.id = :id and o.claimToken = :token and o.claimedUntil > :now and o.status = :current")
+    int completeClaimed(@Param("id") Long id,
+                        @Param("token") String token,
+                        @Param("current") Order.OrderStatus current,
+                        @Param("next") Order.OrderStatus next,
+                        @Param("now") LocalDateTime now);
     
+    @EntityGraph(attributePaths = {"items", "items.product"})
     List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    // 아카이브 대상: 종료 상태이면서 cutoff 이전 주문을 오래된 순서로 (status, order_date, id) 인덱스 사용
+    @Query("select o.id from Order o where o.status in :statuses and o.orderDate < :cutoff " +
+            "order by o.orderDate asc, o.id asc")
+    List<Long> findArchivableIds(@Param("statuses") Collection<Order.OrderStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderSummaryDTO(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.orderDate >= :from and o.orderDate < :to")
+    Stream<OrderSummaryDTO> streamSummariesByOrderDateRange(@Param("from") LocalDateTime from,
+                                                            @Param("to") LocalDateTime to);
+
+    // 일괄 취소: 같은 주문을 두 작업이 동시에 취소(재고 이중 복원)하지 않도록 id 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids order by o.id asc")
+    List<Order> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.seowon.coding.domain.dto.ProductQuantityDTO(i.product.id, sum(i.quantity)) " +
+            "from OrderItem i where i.order.id in :orderIds " +
+            "group by i.product.id order by i.product.id asc")
+    List<ProductQuantityDTO> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,7 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.OrderRollupCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderRollupCheckpointRepository extends JpaRepository<OrderRollupCheckpoint, Long> {
+}
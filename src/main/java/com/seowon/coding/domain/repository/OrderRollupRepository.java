@@ -0,0 +1,42 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.dto.OrderAggregateDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, Long> {
+
+    @Modifying
+    @Query("update OrderRollup r set r.orderCount = r.orderCount + :count, r.revenue = r.revenue + :revenue " +
+            "where r.granularity = :granularity and r.bucketStart = :bucketStart and r.status = :status")
+    int increment(@Param("granularity") OrderRollup.Granularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("status") Order.OrderStatus status,
+                  @Param("count") long count,
+                  @Param("revenue") BigDecimal revenue);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderAggregateDTO(r.status, sum(r.orderCount), sum(r.revenue)) " +
+            "from OrderRollup r where r.granularity = :granularity " +
+            "and r.bucketStart >= :from and r.bucketStart < :to " +
+            "group by r.status")
+    List<OrderAggregateDTO> aggregateByStatus(@Param("granularity") OrderRollup.Granularity granularity,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    List<OrderRollup> findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            OrderRollup.Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query("delete from OrderRollup r where r.bucketStart >= :from and r.bucketStart < :to")
+    int deleteByBucketStartRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,59 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 미발행이면서 lease 가 없거나 만료된 이벤트. 다른 relay 가 잠근 행은 기다리지 않고 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.publishedAt is null " +
+            "and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id asc")
+    List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE 로 claim: 잠금을 지원하지 않는 DB 에서도 같은 이벤트를 두 relay 가 claim 하지 않음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OutboxEvent e set e.claimToken = :token, e.claimedUntil = :until " +
+            "where e.id in :ids and e.publishedAt is null " +
+            "and (e.claimedUntil is null or e.claimedUntil < :now)")
+    int claim(@Param("ids") List<Long> ids,
+              @Param("token") String token,
+              @Param("until") LocalDateTime until,
+              @Param("now") LocalDateTime now);
+
+    @Query("select e from OutboxEvent e where e.claimToken = :token order by e.id asc")
+    List<OutboxEvent> findByClaimToken(@Param("token") String token);
+
+    // claim 을 가진 relay 만 발행 완료로 표시. lease 만료 후 다시 claim 된 이벤트는 새 relay 가 표시 (at-least-once)
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt, e.claimToken = null, e.claimedUntil = null " +
+            "where e.claimToken = :token")
+    int markPublished(@Param("token") String token, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimToken = null, e.claimedUntil = null where e.claimToken = :token")
+    int release(@Param("token") String token);
+
+    // 주문 롤업 복구용 (기동 시 한 번): since 이후 기록된 이벤트의 payload, 발행 여부와 무관
+    @Query("select e.payload from OutboxEvent e where e.aggregateType = :aggregateType and e.createdAt >= :since")
+    List<String> findPayloadsCreatedSince(@Param("aggregateType") String aggregateType,
+                                          @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
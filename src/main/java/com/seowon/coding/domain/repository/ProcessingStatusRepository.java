@@ -2,9 +2,18 @@ package com.seowon.coding.domain.repository;
 
 import com.seowon.coding.domain.model.ProcessingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ProcessingStatusRepository extends JpaRepository<ProcessingStatus, Long> {
     Optional<ProcessingStatus> findByJobId(String jobId);
+
+    // 병렬 chunk 들이 같은 row 의 진행률을 올리므로 읽고-쓰기 대신 증분 update
+    @Modifying
+    @Query("update ProcessingStatus s set s.processed = s.processed + :count, s.updatedAt = :now where s.jobId = :jobId")
+    int incrementProcessed(@Param("jobId") String jobId, @Param("count") int count, @Param("now") LocalDateTime now);
 }
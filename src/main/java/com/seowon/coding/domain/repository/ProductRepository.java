@@ -1,17 +1,37 @@
 package com.seowon.coding.domain.repository;
 
 import com.seowon.coding.domain.model.Product;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
+    // query cache: product 테이블이 바뀌면 hibernate 가 자동으로 무효화
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByCategory(String category);
     
     List<Product> findByNameContainingIgnoreCase(String name);
     
     List<Product> findByStockQuantityGreaterThan(int minStock);
-}
\ No newline at end of file
+
+    // 여러 트랜잭션이 같은 상품들을 잠글 때 항상 id 순서로 잡아 deadlock 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id asc")
+    List<Product> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 2차 캐시를 거치지 않고 현재 커밋된 재고를 조회 (write-behind 재고 원장의 기준값)
+    @Query("select p.stockQuantity from Product p where p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+}
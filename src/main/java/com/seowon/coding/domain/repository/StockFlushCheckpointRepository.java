@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.StockFlushCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface StockFlushCheckpointRepository extends JpaRepository<StockFlushCheckpoint, Long> {
+
+    @Query("select max(c.segment) from StockFlushCheckpoint c")
+    Optional<Long> findMaxSegment();
+}
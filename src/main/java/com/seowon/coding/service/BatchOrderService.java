@@ -0,0 +1,183 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderBatchProperties;
+import com.seowon.coding.domain.dto.BatchOrderResultDTO;
+import com.seowon.coding.domain.dto.CheckoutRequestDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.Cart;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingLine;
+import com.seowon.coding.service.stock.StockWriteBehindService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 연동용 일괄 주문 생성
+ * - 전체 요청을 먼저 검증하고 참조된 상품을 한 번의 쿼리로 id 순서대로 잠금
+ * - 주문별로 재고를 확인/차감하며, 실패한 주문만 제외하고 나머지는 저장
+ * - write-behind 재고 사용 시에는 상품을 잠그지 않고 재고 원장에서 예약
+ * - 주문/주문상품은 sequence id 와 hibernate.jdbc.batch_size 로 batch insert 됨
+ */
+@Service
+@Timed(value = "service.method", description = "Service method latency")
+@RequiredArgsConstructor
+public class BatchOrderService {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final PricingEngine pricingEngine;
+    private final OrderBatchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final StockWriteBehindService stockWriteBehind;
+
+    @Transactional
+    public List<BatchOrderResultDTO> createOrders(List<CheckoutRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("orders must not be empty");
+        }
+        if (requests.size() > properties.getMaxOrders()) {
+            throw new IllegalArgumentException("too many orders in one batch: " + requests.size()
+                    + " (max " + properties.getMaxOrders() + ")");
+        }
+
+        BatchOrderResultDTO[] results = new BatchOrderResultDTO[requests.size()];
+        TreeSet<Long> productIds = new TreeSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BatchOrderResultDTO.rejected(i, error);
+            } else {
+                requests.get(i).getProducts().forEach(p -> productIds.add(p.getProductId()));
+            }
+        }
+
+        // write-behind 사용 시 product row 를 수정하지 않으므로 잠그지 않음
+        Map<Long, Product> products = productIds.isEmpty() ? Map.of()
+                : (stockWriteBehind.isEnabled() ? productRepository.findAllById(productIds)
+                        : productRepository.findAllByIdInForUpdate(productIds)).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(requests.size());
+        List<Integer> orderIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CheckoutRequestDTO request = requests.get(i);
+            Map<Long, Integer> required = requiredQuantities(request.getProducts());
+            String error = reserve(required, products);
+            if (error != null) {
+                results[i] = BatchOrderResultDTO.rejected(i, error);
+                continue;
+            }
+            orders.add(buildOrder(request, products, now));
+            orderIndexes.add(i);
+        }
+
+        List<Order> saved = orderRepository.saveAll(orders);
+        meterRegistry.counter("orders.bulk.processed", "job", "batch-create").increment(saved.size());
+        for (int j = 0; j < saved.size(); j++) {
+            Order order = saved.get(j);
+            int index = orderIndexes.get(j);
+            results[index] = BatchOrderResultDTO.created(index, order.getId(), order.getTotalAmount());
+        }
+        return Arrays.asList(results);
+    }
+
+    private String validate(CheckoutRequestDTO request) {
+        if (request == null || request.getCustomerName() == null || request.getCustomerEmail() == null) {
+            return "customer info required";
+        }
+        if (request.getProducts() == null || request.getProducts().isEmpty()) {
+            return "products required";
+        }
+        for (OrderProduct line : request.getProducts()) {
+            if (line == null || line.getProductId() == null) {
+                return "productId required";
+            }
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                return "quantity must be positive: " + line.getQuantity();
+            }
+        }
+        return null;
+    }
+
+    // 같은 상품이 여러 줄로 들어온 경우 합산해서 재고 확인
+    private Map<Long, Integer> requiredQuantities(List<OrderProduct> lines) {
+        Map<Long, Integer> required = new LinkedHashMap<>();
+        lines.forEach(line -> required.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+        return required;
+    }
+
+    private String reserve(Map<Long, Integer> required, Map<Long, Product> products) {
+        for (Map.Entry<Long, Integer> e : required.entrySet()) {
+            Product product = products.get(e.getKey());
+            if (product == null) {
+                return "Product not found: " + e.getKey();
+            }
+            if (!stockWriteBehind.isEnabled() && product.getStockQuantity() < e.getValue()) {
+                meterRegistry.counter("orders.stock.conflicts", "path", "batch").increment();
+                return "insufficient stock for product " + e.getKey();
+            }
+        }
+        if (stockWriteBehind.isEnabled()) {
+            return reserveWriteBehind(required);
+        }
+        required.forEach((id, qty) -> products.get(id).decreaseStock(qty));
+        return null;
+    }
+
+    // 한 주문의 상품 중 하나라도 부족하면 앞서 예약한 상품을 되돌림
+    private String reserveWriteBehind(Map<Long, Integer> required) {
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>(required.size());
+        for (Map.Entry<Long, Integer> e : required.entrySet()) {
+            if (!stockWriteBehind.tryReserve(e.getKey(), e.getValue())) {
+                reserved.forEach(r -> stockWriteBehind.cancelReservation(r.getKey(), r.getValue()));
+                meterRegistry.counter("orders.stock.conflicts", "path", "batch").increment();
+                return "insufficient stock for product " + e.getKey();
+            }
+            reserved.add(e);
+        }
+        return null;
+    }
+
+    private Order buildOrder(CheckoutRequestDTO request, Map<Long, Product> products, LocalDateTime now) {
+        Order order = Order.builder()
+                .customerName(request.getCustomerName())
+                .customerEmail(request.getCustomerEmail())
+                .orderDate(now)
+                .build();
+        List<PricingLine> lines = new ArrayList<>(request.getProducts().size());
+        for (OrderProduct line : request.getProducts()) {
+            Product product = products.get(line.getProductId());
+            order.addItem(OrderItem.builder()
+                    .product(product)
+                    .quantity(line.getQuantity())
+                    .price(product.getPrice())
+                    .build());
+            lines.add(new PricingLine(product.getPrice(), line.getQuantity(), product.getCategory()));
+        }
+        order.setTotalAmount(pricingEngine.quote(new Cart(lines, request.getCouponCode())).getTotal());
+        // PENDING 을 거치지 않고 바로 PROCESSING 으로 생성: 주문당 상태 이벤트(outbox row) 하나
+        order.markAsProcessing();
+        return order;
+    }
+}
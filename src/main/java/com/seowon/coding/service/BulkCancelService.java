@@ -0,0 +1,132 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.BulkCancelProperties;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import com.seowon.coding.service.stock.StockReturnService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 캠페인 취소 등 대량 주문 취소 + 재고 복원
+ * - 주문 id 를 chunk 로 나눠 bulkJobExecutor 에서 병렬 실행, chunk 마다 별도 트랜잭션
+ * - chunk 안에서는 주문을 id 순서로 잠그고, 재고 복원량을 상품별로 합산해 chunk 당 상품별 update 한 번 (StockReturnService)
+ *   작업 전체가 아닌 chunk 단위로 복원: 취소와 재고 복원이 같은 트랜잭션에 커밋되어야 중간에 실패/종료해도
+ *   "취소됐지만 재고는 돌아오지 않은" 주문이 남지 않음. 대신 인기 상품은 chunk 수만큼 update 되므로,
+ *   상품 row 잠금은 주문 변경을 flush 한 뒤 커밋 직전에 잡아 병렬 chunk 끼리 기다리는 시간을 줄임
+ * - 이미 취소됐거나 배송된 주문은 건너뜀 (재고 이중 복원 방지)
+ * - 진행률은 ProcessingStatus(jobId) 로 조회
+ */
+@Slf4j
+@Service
+public class BulkCancelService {
+
+    private final OrderRepository orderRepository;
+    private final ProcessingStatusRepository processingStatusRepository;
+    private final TaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkCancelProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final StockReturnService stockReturnService;
+
+    public BulkCancelService(OrderRepository orderRepository,
+                             ProcessingStatusRepository processingStatusRepository,
+                             @Qualifier("bulkJobExecutor") TaskExecutor executor,
+                             PlatformTransactionManager transactionManager,
+                             BulkCancelProperties properties,
+                             MeterRegistry meterRegistry,
+                             StockReturnService stockReturnService) {
+        this.orderRepository = orderRepository;
+        this.processingStatusRepository = processingStatusRepository;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.stockReturnService = stockReturnService;
+    }
+
+    /**
+     * 작업을 등록하고 바로 반환 (진행률은 jobId 로 조회)
+     */
+    public String start(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("orderIds must not be empty");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        if (ids.size() > properties.getMaxOrders()) {
+            throw new IllegalArgumentException("too many orders: " + ids.size() + " (max " + properties.getMaxOrders() + ")");
+        }
+        String jobId = "cancel-" + UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            ProcessingStatus ps = ProcessingStatus.builder().jobId(jobId).build();
+            ps.markRunning(ids.size());
+            processingStatusRepository.save(ps);
+        });
+
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + properties.getChunkSize(), ids.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> cancelChunk(jobId, chunk), executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> finish(jobId, chunks, error));
+        return jobId;
+    }
+
+    public Optional<ProcessingStatus> getStatus(String jobId) {
+        return processingStatusRepository.findByJobId(jobId);
+    }
+
+    /**
+     * @return 실제로 취소된 주문 수
+     */
+    int cancelChunk(String jobId, List<Long> orderIds) {
+        Integer cancelled = transactionTemplate.execute(status -> {
+            List<Order> orders = orderRepository.findAllByIdInForUpdate(orderIds);
+            List<Order> cancellable = orders.stream().filter(Order::isCancellable).toList();
+            if (!cancellable.isEmpty()) {
+                cancellable.forEach(Order::cancel);
+                orderRepository.saveAllAndFlush(cancellable);
+                // 같은 트랜잭션에서 잠금을 잡은 주문만 복원 (상품 row 잠금은 여기서부터 커밋까지)
+                stockReturnService.restore(cancellable.stream().map(Order::getId).toList());
+            }
+            // 진행률 row 잠금을 짧게 잡도록 마지막에 갱신
+            processingStatusRepository.incrementProcessed(jobId, orderIds.size(), LocalDateTime.now());
+            return cancellable.size();
+        });
+        return cancelled == null ? 0 : cancelled;
+    }
+
+    private void finish(String jobId, List<CompletableFuture<Integer>> chunks, Throwable error) {
+        int cancelled = chunks.stream()
+                .filter(f -> !f.isCompletedExceptionally())
+                .mapToInt(CompletableFuture::join)
+                .sum();
+        meterRegistry.counter("orders.bulk.processed", "job", "cancel").increment(cancelled);
+        if (error != null) {
+            log.warn("Bulk cancel {} failed after cancelling {} orders", jobId, cancelled, error);
+        }
+        transactionTemplate.executeWithoutResult(status -> processingStatusRepository.findByJobId(jobId).ifPresent(ps -> {
+            if (error == null) {
+                ps.markCompleted();
+            } else {
+                ps.markFailed();
+            }
+        }));
+    }
+}
@@ -0,0 +1,11 @@
+package com.seowon.coding.service;
+
+/**
+ * 같은 Idempotency-Key 로 내용이 다른 요청이 들어온 경우
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key reused with a different request: " + key);
+    }
+}
@@ -0,0 +1,155 @@
+package com.seowon.coding.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seowon.coding.config.IdempotencyProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 제거
+ * - 처음 들어온 요청만 실행하고 결과를 TTL 동안 보관, 재요청에는 보관된 결과를 그대로 반환
+ * - 동시에 들어온 중복 요청은 첫 요청의 실행 결과를 기다림 (한 번만 실행)
+ *   executeAsync 는 기다리지 않고 실행 중인 future 를 반환하므로 중복 요청이 thread 를 점유하지 않음
+ * - 실행이 실패하면 키를 지워 재시도가 가능하게 함
+ * - 키는 사용자(principal) 별로 분리되어 다른 사용자의 결과를 받거나 키를 막을 수 없음
+ * - 실행 중인 키는 크기 제한으로 밀려나지 않음 (weight 0). 완료된 결과만 maxKeys 한도에서 LRU 로 제거
+ */
+@Service
+public class IdempotencyService {
+
+    private final Cache<ScopedKey, Entry> entries;
+    private final long waitTimeoutMillis;
+
+    public IdempotencyService(IdempotencyProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxKeys())
+                .weigher((ScopedKey key, Entry entry) -> entry.result.isDone() ? 1 : 0)
+                .expireAfterWrite(properties.getTtl())
+                .executor(Runnable::run)
+                .build();
+        this.waitTimeoutMillis = properties.getWaitTimeout().toMillis();
+    }
+
+    /**
+     * @param principal   요청한 사용자. 같은 키라도 사용자가 다르면 별개의 요청
+     * @param fingerprint 요청 내용 (equals 로 비교). 같은 키에 다른 내용이면 IdempotencyKeyReusedException
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String principal, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        ScopedKey scopedKey = new ScopedKey(principal, key);
+        Entry created = new Entry(fingerprint, new CompletableFuture<>());
+        Entry entry = entries.asMap().computeIfAbsent(scopedKey, k -> created);
+        if (!Objects.equals(entry.fingerprint, fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        if (entry != created) {
+            return (T) await(key, entry.result);
+        }
+        try {
+            T result = action.get();
+            created.result.complete(result);
+            // 완료되었으므로 weight 를 다시 계산해 크기 제한 대상에 포함 (TTL 도 완료 시점부터)
+            entries.asMap().replace(scopedKey, created, created);
+            return result;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(scopedKey, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * execute 의 비동기 버전. 첫 요청만 action 으로 실행을 시작하고,
+     * 중복 요청은 실행 중인 결과를 future 로 받음 (waitTimeout 이 지나면 IllegalStateException 으로 완료)
+     * 같은 키에 다른 내용이면 IdempotencyKeyReusedException 으로 완료된 future 를 반환
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String principal, String key, Object fingerprint,
+                                                 Supplier<CompletableFuture<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        ScopedKey scopedKey = new ScopedKey(principal, key);
+        Entry created = new Entry(fingerprint, new CompletableFuture<>());
+        Entry entry = entries.asMap().computeIfAbsent(scopedKey, k -> created);
+        if (!Objects.equals(entry.fingerprint, fingerprint)) {
+            return CompletableFuture.failedFuture(new IdempotencyKeyReusedException(key));
+        }
+        if (entry != created) {
+            return (CompletableFuture<T>) follow(key, entry.result);
+        }
+        CompletableFuture<T> started;
+        try {
+            started = action.get();
+        } catch (RuntimeException e) {
+            entries.asMap().remove(scopedKey, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        // 호출자가 결과를 받기 전에 키 상태를 정리 (실패 직후의 재시도가 실패한 결과를 받지 않도록)
+        return started.whenComplete((result, error) -> {
+            if (error == null) {
+                created.result.complete(result);
+                entries.asMap().replace(scopedKey, created, created);
+            } else {
+                entries.asMap().remove(scopedKey, created);
+                created.result.completeExceptionally(unwrap(error));
+            }
+        });
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private Object await(String key, CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Request with Idempotency-Key " + key + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Idempotency-Key " + key);
+        }
+    }
+
+    private CompletableFuture<Object> follow(String key, CompletableFuture<Object> result) {
+        // copy 에 timeout 을 걸어 첫 요청의 future 는 그대로 둠
+        return result.copy()
+                .orTimeout(waitTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof TimeoutException) {
+                        throw new IllegalStateException("Request with Idempotency-Key " + key + " is still in progress");
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private record ScopedKey(String principal, String key) {
+    }
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,369 @@
+package com.seowon.coding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.config.OrderAnalyticsProperties;
+import com.seowon.coding.config.OutboxProperties;
+import com.seowon.coding.domain.dto.OrderAggregateDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderRollup;
+import com.seowon.coding.domain.model.OrderRollupCheckpoint;
+import com.seowon.coding.domain.model.OrderRevisedEvent;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.OrderRollupCheckpointRepository;
+import com.seowon.coding.domain.repository.OrderRollupRepository;
+import com.seowon.coding.domain.repository.OutboxEventRepository;
+import com.seowon.coding.service.outbox.OrderOutboxWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 주문 통계용 시간/일 단위 롤업
+ * - 주문 생성/상태 전이/수정/삭제 이벤트를 커밋 후 메모리에 누적하고 주기적으로 버킷별 UPDATE 한 번으로 반영
+ *   (주문 트랜잭션이 롤업 row lock 을 잡지 않도록 분리)
+ * - 구간 조회는 버킷 수에 비례 (주문 수와 무관)
+ * - rebuild 는 fenceLock 으로 "커밋 + 누적" 과 스냅샷 시작 시점을 배타적으로 실행하고,
+ *   재계산이 끝날 때까지 그 구간의 변경분은 flush 하지 않음 (재계산에 포함된 변경분을 다시 더하지 않음)
+ * - 종료 시 남은 변경분을 flush. 비정상 종료로 잃은 변경분은 기동 시 복구:
+ *   flush 마다 checkpoint 시각을 같은 트랜잭션에 기록하고, 기동 시 그 이후(recoveryMargin 만큼 앞당겨)
+ *   outbox 에 기록된 주문 이벤트의 주문일만 다시 계산
+ */
+@Slf4j
+@Service
+public class OrderAnalyticsService {
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRollupCheckpointRepository checkpointRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderAnalyticsProperties properties;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<RollupKey, Delta> pending = new ConcurrentHashMap<>();
+    // read: 주문 트랜잭션 beforeCommit ~ afterCompletion, flush / write: rebuild 의 스냅샷 시작
+    private final ReadWriteLock fenceLock = new ReentrantReadWriteLock();
+    // 재계산 중인 [start, end) 구간. 이 구간의 변경분은 재계산이 커밋될 때까지 pending 에 보관
+    private volatile Fence fence;
+
+    public OrderAnalyticsService(OrderRepository orderRepository,
+                                 ArchivedOrderRepository archivedOrderRepository,
+                                 OrderRollupRepository orderRollupRepository,
+                                 OrderRollupCheckpointRepository checkpointRepository,
+                                 OutboxEventRepository outboxEventRepository,
+                                 ObjectMapper objectMapper,
+                                 OrderAnalyticsProperties properties,
+                                 OutboxProperties outboxProperties,
+                                 PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderRollupRepository = orderRollupRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 마지막 flush 이후 outbox 에 기록된 주문 이벤트의 주문일을 다시 계산 (flush 전에 종료된 경우의 유실분)
+     * 재계산은 멱등이므로 이미 반영된 일자가 포함되어도 결과는 같음
+     */
+    @PostConstruct
+    void recover() {
+        Optional<OrderRollupCheckpoint> checkpoint = checkpointRepository.findById(OrderRollupCheckpoint.ID);
+        if (checkpoint.isEmpty()) {
+            return;
+        }
+        LocalDateTime since = checkpoint.get().getFlushedAt().minus(properties.getRecoveryMargin());
+        LocalDateTime retainedSince = LocalDateTime.now().minus(outboxProperties.getRetention());
+        if (since.isBefore(retainedSince)) {
+            // 발행 후 보관 기간이 지나 삭제된 이벤트는 복구 대상에서 빠짐
+            log.warn("Order rollup checkpoint {} is older than outbox retention ({}), " +
+                    "rebuild rollups changed before {} manually", since, outboxProperties.getRetention(), retainedSince);
+        }
+        Set<LocalDate> days = new TreeSet<>();
+        for (String payload : outboxEventRepository.findPayloadsCreatedSince(OrderOutboxWriter.AGGREGATE_TYPE, since)) {
+            JsonNode event = readTree(payload);
+            addDay(days, event.get("orderDate"));
+            addDay(days, event.get("previousOrderDate"));
+        }
+        for (LocalDate day : days) {
+            rebuild(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        }
+        if (!days.isEmpty()) {
+            log.info("Recovered order rollups for {} days changed since {}", days.size(), since);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Order order = event.getOrder();
+        if (order.getOrderDate() == null) {
+            return;
+        }
+        BigDecimal amount = amountOf(order.getTotalAmount());
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        if (!event.isPlaced()) {
+            add(deltas, order.getOrderDate(), event.getPreviousStatus(), new Delta(-1, amount.negate()));
+        }
+        add(deltas, order.getOrderDate(), event.getNewStatus(), new Delta(1, amount));
+        recordAfterCommit(deltas);
+    }
+
+    // 수정 전 버킷에서 빼고 수정 후 버킷에 더함 (삭제면 빼기만)
+    @EventListener
+    public void onOrderRevised(OrderRevisedEvent event) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        OrderSummaryDTO previous = event.getPrevious();
+        if (previous != null && previous.getOrderDate() != null && previous.getStatus() != null) {
+            BigDecimal amount = amountOf(previous.getTotalAmount());
+            add(deltas, previous.getOrderDate(), previous.getStatus(), new Delta(-1, amount.negate()));
+        }
+        OrderSummaryDTO current = event.getCurrent();
+        if (current != null && current.getOrderDate() != null && current.getStatus() != null) {
+            add(deltas, current.getOrderDate(), current.getStatus(), new Delta(1, amountOf(current.getTotalAmount())));
+        }
+        deltas.values().removeIf(Delta::isZero);
+        recordAfterCommit(deltas);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.analytics.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 이 시각 이전에 커밋된 변경분은 이번 flush 에 모두 포함됨 (재계산 중인 구간이 없을 때만 checkpoint 로 기록)
+        LocalDateTime startedAt = LocalDateTime.now();
+        fenceLock.readLock().lock();
+        try {
+            Fence current = fence;
+            boolean deferred = false;
+            Map<RollupKey, Delta> batch = new HashMap<>();
+            for (RollupKey key : pending.keySet()) {
+                if (current != null && current.contains(key.bucketStart())) {
+                    deferred = true;
+                    continue;
+                }
+                Delta delta = pending.remove(key);
+                if (delta != null && !delta.isZero()) {
+                    batch.put(key, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                boolean complete = !deferred;
+                transactionTemplate.executeWithoutResult(status -> {
+                    batch.forEach(this::apply);
+                    if (complete) {
+                        checkpointRepository.save(new OrderRollupCheckpoint(OrderRollupCheckpoint.ID, startedAt));
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 다른 노드가 같은 버킷을 먼저 insert 한 경우 등: 다음 주기에 다시 반영
+                log.warn("Failed to flush {} order rollup buckets, will retry", batch.size(), e);
+                batch.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            }
+        } finally {
+            fenceLock.readLock().unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderAggregateDTO> aggregate(LocalDateTime from, LocalDateTime to, OrderRollup.Granularity granularity) {
+        return orderRollupRepository.aggregateByStatus(granularity, granularity.bucketOf(from), to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderAggregateDTO> series(LocalDateTime from, LocalDateTime to, OrderRollup.Granularity granularity) {
+        return orderRollupRepository
+                .findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        granularity, granularity.bucketOf(from), to)
+                .stream()
+                .map(r -> new OrderAggregateDTO(r.getBucketStart(), r.getStatus(), r.getOrderCount(), r.getRevenue()))
+                .toList();
+    }
+
+    /**
+     * 주문 테이블과 아카이브로부터 [from, to) 일자 구간의 롤업을 다시 계산 (기존 주문 backfill / 보정용)
+     */
+    public synchronized void rebuild(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.DAYS).equals(to) ? to : to.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebuildRange(start, end));
+        } finally {
+            fence = null;
+        }
+    }
+
+    private void rebuildRange(LocalDateTime start, LocalDateTime end) {
+        Stream<OrderSummaryDTO> orders;
+        // 커밋 중인 주문이 없는 시점에 구간 변경분을 버리고 스냅샷 조회를 시작:
+        // 버린 변경분은 모두 스냅샷에 포함되고, 이후 커밋분은 스냅샷에 없으므로 재계산 커밋 후 flush 로 더해짐
+        fenceLock.writeLock().lock();
+        try {
+            Fence rebuilding = new Fence(start, end);
+            fence = rebuilding;
+            pending.keySet().removeIf(key -> rebuilding.contains(key.bucketStart()));
+            // 아카이브로 옮겨진 주문도 롤업에 포함되어 있으므로 함께 집계 (한 주문은 둘 중 한 곳에만 있음)
+            orders = Stream.concat(
+                    orderRepository.streamSummariesByOrderDateRange(start, end),
+                    archivedOrderRepository.streamSummariesByOrderDateRange(start, end));
+        } finally {
+            fenceLock.writeLock().unlock();
+        }
+
+        Map<RollupKey, Delta> totals = new HashMap<>();
+        try (orders) {
+            orders.forEach(o -> add(totals, o.getOrderDate(), o.getStatus(), new Delta(1, amountOf(o.getTotalAmount()))));
+        }
+        orderRollupRepository.deleteByBucketStartRange(start, end);
+        orderRollupRepository.saveAll(totals.entrySet().stream()
+                .map(e -> OrderRollup.builder()
+                        .granularity(e.getKey().granularity())
+                        .bucketStart(e.getKey().bucketStart())
+                        .status(e.getKey().status())
+                        .orderCount(e.getValue().count())
+                        .revenue(e.getValue().revenue())
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 누적 (beforeCommit 부터 fenceLock read 를 잡아 rebuild 스냅샷과 순서를 맞춤)
+     */
+    private void recordAfterCommit(Map<RollupKey, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fenceLock.readLock().lock();
+            try {
+                record(deltas);
+            } finally {
+                fenceLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                fenceLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                record(deltas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    fenceLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void record(Map<RollupKey, Delta> deltas) {
+        deltas.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+    }
+
+    private static void add(Map<RollupKey, Delta> deltas, LocalDateTime orderDate, Order.OrderStatus status, Delta delta) {
+        for (OrderRollup.Granularity granularity : OrderRollup.Granularity.values()) {
+            deltas.merge(new RollupKey(granularity, granularity.bucketOf(orderDate), status), delta, Delta::plus);
+        }
+    }
+
+    private JsonNode readTree(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed order outbox payload: " + payload, e);
+        }
+    }
+
+    private static void addDay(Set<LocalDate> days, JsonNode orderDate) {
+        if (orderDate != null && orderDate.isTextual()) {
+            days.add(LocalDateTime.parse(orderDate.asText()).toLocalDate());
+        }
+    }
+
+    private static BigDecimal amountOf(BigDecimal totalAmount) {
+        return totalAmount == null ? BigDecimal.ZERO : totalAmount;
+    }
+
+    private void apply(RollupKey key, Delta delta) {
+        int updated = orderRollupRepository.increment(
+                key.granularity(), key.bucketStart(), key.status(), delta.count(), delta.revenue());
+        if (updated == 0) {
+            orderRollupRepository.saveAndFlush(OrderRollup.builder()
+                    .granularity(key.granularity())
+                    .bucketStart(key.bucketStart())
+                    .status(key.status())
+                    .orderCount(delta.count())
+                    .revenue(delta.revenue())
+                    .build());
+        }
+    }
+
+    private record RollupKey(OrderRollup.Granularity granularity, LocalDateTime bucketStart, Order.OrderStatus status) {
+    }
+
+    private record Delta(long count, BigDecimal revenue) {
+        Delta plus(Delta other) {
+            return new Delta(count + other.count, revenue.add(other.revenue));
+        }
+
+        boolean isZero() {
+            return count == 0 && revenue.signum() == 0;
+        }
+    }
+
+    private record Fence(LocalDateTime start, LocalDateTime end) {
+        boolean contains(LocalDateTime bucketStart) {
+            return !bucketStart.isBefore(start) && bucketStart.isBefore(end);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderArchiveProperties;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 오래된 종료 상태 주문을 orders / order_item 에서 orders_archive / order_item_archive 로 이동
+ * - batch 마다 별도 트랜잭션에서 insert ... select 후 원본 delete (엔티티를 로딩하지 않음)
+ * - 조회한 id 를 조건(종료 상태, cutoff 이전) 을 다시 확인하는 update 로 먼저 잠가서, 복사 ~ 삭제 사이에
+ *   updateOrder 등이 상태를 되돌린 주문이 삭제되지 않게 함 (잠근 뒤에는 커밋까지 상태가 바뀌지 않음)
+ * - delete 에도 같은 조건을 두어 실제로 아카이브된 종료 주문만 삭제
+ * - 조회 쪽(OrderService.getOrderById, OrderHistoryService) 은 아카이브를 함께 조회
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    static final Set<Order.OrderStatus> TERMINAL_STATUSES = EnumSet.of(Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final OrderArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderArchiveService(OrderRepository orderRepository,
+                               EntityManager entityManager,
+                               OrderArchiveProperties properties,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+                int archived = archiveBatch(now);
+                total += archived;
+                if (archived < properties.getBatchSize()) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                log.info("Archived {} orders older than {}", total, properties.archivedBefore(now));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Order archiving failed, will retry", e);
+        }
+    }
+
+    /**
+     * @return 아카이브한 주문 수
+     */
+    public int archiveBatch(LocalDateTime now) {
+        LocalDateTime cutoff = properties.archivedBefore(now);
+        Integer archived = transactionTemplate.execute(status -> {
+            List<Long> ids = orderRepository.findArchivableIds(
+                    TERMINAL_STATUSES, cutoff, PageRequest.ofSize(properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            // 조회 이후 상태가 바뀐 주문은 여기서 빠지고, 남은 행은 커밋까지 잠김 (값은 바꾸지 않는 update)
+            int locked = entityManager.createQuery(
+                            "update Order o set o.status = o.status " +
+                                    "where o.id in :ids and o.status in :statuses and o.orderDate < :cutoff")
+                    .setParameter("ids", ids)
+                    .setParameter("statuses", TERMINAL_STATUSES)
+                    .setParameter("cutoff", cutoff)
+                    .executeUpdate();
+            if (locked == 0) {
+                return 0;
+            }
+            int orders = entityManager.createQuery(
+                            "insert into ArchivedOrder (id, customerName, customerEmail, status, orderDate, totalAmount, archivedAt) " +
+                                    "select o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount, :now " +
+                                    "from Order o where o.id in :ids and o.status in :statuses and o.orderDate < :cutoff")
+                    .setParameter("now", now)
+                    .setParameter("ids", ids)
+                    .setParameter("statuses", TERMINAL_STATUSES)
+                    .setParameter("cutoff", cutoff)
+                    .executeUpdate();
+            if (orders == 0) {
+                return 0;
+            }
+            entityManager.createQuery(
+                            "insert into ArchivedOrderItem (id, orderId, productId, quantity, price) " +
+                                    "select i.id, i.order.id, i.product.id, i.quantity, i.price from OrderItem i " +
+                                    "where i.order.id in (select a.id from ArchivedOrder a where a.id in :ids)")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            entityManager.createQuery(
+                            "delete from OrderItem i where i.order.id in (select a.id from ArchivedOrder a where a.id in :ids) " +
+                                    "and i.order.id in (select o.id from Order o where o.id in :ids " +
+                                    "and o.status in :statuses and o.orderDate < :cutoff)")
+                    .setParameter("ids", ids)
+                    .setParameter("statuses", TERMINAL_STATUSES)
+                    .setParameter("cutoff", cutoff)
+                    .executeUpdate();
+            entityManager.createQuery(
+                            "delete from Order o where o.id in (select a.id from ArchivedOrder a where a.id in :ids) " +
+                                    "and o.status in :statuses and o.orderDate < :cutoff")
+                    .setParameter("ids", ids)
+                    .setParameter("statuses", TERMINAL_STATUSES)
+                    .setParameter("cutoff", cutoff)
+                    .executeUpdate();
+            return orders;
+        });
+        int count = archived == null ? 0 : archived;
+        meterRegistry.counter("orders.archived").increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,50 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderHistoryProperties;
+import com.seowon.coding.config.PermissionProperties;
+import com.seowon.coding.domain.model.PermissionIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 주문 이력 조회 대상 고객 email 결정
+ * - 기본은 principal 본인: orders.history.customer-emails 에 매핑이 있으면 그 email, 없으면 principal 이름
+ * - orders 에 대한 admin 권한이 있으면 email 파라미터로 다른 고객을 조회할 수 있음
+ * - 그 외 다른 email 을 요청하면 empty (403)
+ */
+@Component
+public class OrderHistoryAccess {
+
+    // ApiPermissionAuthorizationManager 의 운영용 action 과 같은 값
+    private static final String ADMIN_ACTION = "admin";
+    private static final String ORDERS = "orders";
+
+    private final OrderHistoryProperties properties;
+    private final PermissionProperties permissionProperties;
+    private final PermissionIndex permissionIndex;
+
+    public OrderHistoryAccess(OrderHistoryProperties properties,
+                              PermissionProperties permissionProperties,
+                              PermissionIndex permissionIndex) {
+        this.properties = properties;
+        this.permissionProperties = permissionProperties;
+        this.permissionIndex = permissionIndex;
+    }
+
+    /**
+     * @param requestedEmail 없으면 본인 이력
+     * @return 조회할 고객 email, 권한이 없으면 empty
+     */
+    public Optional<String> resolveCustomerEmail(String principalName, String requestedEmail) {
+        String ownEmail = properties.getCustomerEmails().getOrDefault(principalName, principalName);
+        if (requestedEmail == null || requestedEmail.equalsIgnoreCase(ownEmail)) {
+            return Optional.of(ownEmail);
+        }
+        return isOrderAdmin(principalName) ? Optional.of(requestedEmail) : Optional.empty();
+    }
+
+    private boolean isOrderAdmin(String principalName) {
+        return permissionProperties.isEnabled() && permissionIndex.isAllowed(principalName, ADMIN_ACTION, ORDERS);
+    }
+}
@@ -0,0 +1,143 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderArchiveProperties;
+import com.seowon.coding.config.OrderHistoryProperties;
+import com.seowon.coding.domain.dto.OrderHistoryDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.util.ExpiringLruCache;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 고객별 주문 이력 조회 ("내 주문")
+ * - (customer_email, order_date desc, id desc) 인덱스 기반 keyset 페이지네이션
+ * - orders.history.cache.enabled 가 켜져 있으면 고객별 최근 주문 첫 페이지를 짧은 TTL 로 캐시
+ * - 페이지가 아카이브 기준 시각보다 오래된 구간에 걸치면 아카이브 테이블도 같은 커서로 조회해 병합
+ */
+@Service
+@Timed(value = "service.method", description = "Service method latency")
+@Transactional(readOnly = true)
+public class OrderHistoryService {
+
+    private static final Comparator<OrderSummaryDTO> NEWEST_FIRST = Comparator
+            .comparing(OrderSummaryDTO::getOrderDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(OrderSummaryDTO::getId)
+            .reversed();
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderHistoryProperties properties;
+    private final OrderArchiveProperties archiveProperties;
+    private final ExpiringLruCache<String, List<OrderSummaryDTO>> recentOrders;
+
+    public OrderHistoryService(OrderRepository orderRepository,
+                               ArchivedOrderRepository archivedOrderRepository,
+                               OrderHistoryProperties properties,
+                               OrderArchiveProperties archiveProperties) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.properties = properties;
+        this.archiveProperties = archiveProperties;
+        OrderHistoryProperties.Cache cache = properties.getCache();
+        this.recentOrders = cache.isEnabled()
+                ? new ExpiringLruCache<>(cache.getMaxCustomers(), cache.getTtl())
+                : null;
+    }
+
+    public OrderHistoryDTO getHistory(String customerEmail, Integer size, LocalDateTime beforeDate, Long beforeId) {
+        if (customerEmail == null || customerEmail.isBlank()) {
+            throw new IllegalArgumentException("customerEmail required");
+        }
+        if ((beforeDate == null) != (beforeId == null)) {
+            throw new IllegalArgumentException("beforeDate and beforeId must be given together");
+        }
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<OrderSummaryDTO> rows = beforeDate == null
+                ? findRecent(customerEmail, pageSize + 1)
+                : orderRepository.findSummariesByCustomerEmailBefore(
+                        customerEmail, beforeDate, beforeId, PageRequest.ofSize(pageSize + 1));
+        return toPage(withArchived(rows, customerEmail, pageSize + 1, beforeDate, beforeId), pageSize);
+    }
+
+    public void evict(String customerEmail) {
+        if (recentOrders != null && customerEmail != null) {
+            recentOrders.invalidate(customerEmail);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        evict(event.getOrder().getCustomerEmail());
+    }
+
+    private List<OrderSummaryDTO> findRecent(String customerEmail, int limit) {
+        int cachedLimit = properties.getCache().getRecentOrders() + 1;
+        if (recentOrders == null || limit > cachedLimit) {
+            return orderRepository.findSummariesByCustomerEmail(customerEmail, PageRequest.ofSize(limit));
+        }
+        List<OrderSummaryDTO> cached = recentOrders.get(customerEmail);
+        if (cached == null) {
+            cached = List.copyOf(orderRepository.findSummariesByCustomerEmail(customerEmail, PageRequest.ofSize(cachedLimit)));
+            recentOrders.put(customerEmail, cached);
+        }
+        return cached.subList(0, Math.min(limit, cached.size()));
+    }
+
+    /**
+     * 아카이브된 주문은 모두 archivedBefore 이전 주문이므로, 운영 테이블에서 limit 건을 채웠고
+     * 마지막 건이 그 이후라면 아카이브 조회 없이 그대로 반환
+     */
+    private List<OrderSummaryDTO> withArchived(List<OrderSummaryDTO> rows, String customerEmail, int limit,
+                                               LocalDateTime beforeDate, Long beforeId) {
+        if (rows.size() >= limit) {
+            LocalDateTime oldest = rows.get(limit - 1).getOrderDate();
+            if (oldest != null && !oldest.isBefore(archiveProperties.archivedBefore(LocalDateTime.now()))) {
+                return rows;
+            }
+        }
+        List<OrderSummaryDTO> archived = beforeDate == null
+                ? archivedOrderRepository.findSummariesByCustomerEmail(customerEmail, PageRequest.ofSize(limit))
+                : archivedOrderRepository.findSummariesByCustomerEmailBefore(
+                        customerEmail, beforeDate, beforeId, PageRequest.ofSize(limit));
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        List<OrderSummaryDTO> merged = new ArrayList<>(rows.size() + archived.size());
+        merged.addAll(rows);
+        merged.addAll(archived);
+        merged.sort(NEWEST_FIRST);
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return properties.getDefaultPageSize();
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        return Math.min(size, properties.getMaxPageSize());
+    }
+
+    private OrderHistoryDTO toPage(List<OrderSummaryDTO> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new OrderHistoryDTO(rows, null, null);
+        }
+        List<OrderSummaryDTO> page = rows.subList(0, pageSize);
+        OrderSummaryDTO last = page.get(pageSize - 1);
+        return new OrderHistoryDTO(page, last.getOrderDate(), last.getId());
+    }
+}
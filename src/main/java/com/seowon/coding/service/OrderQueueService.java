@@ -0,0 +1,119 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderQueueProperties;
+import com.seowon.coding.domain.dto.OrderClaimDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.service.stock.StockReturnService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 상태(OrderStatus) 기반 작업 큐
+ * - worker 는 상태별로 최대 N 건을 lease 기반으로 claim (같은 주문이 두 worker 에게 동시에 배정되지 않음)
+ * - 배정 순서는 orderDate, id 오름차순 (오래된 주문 우선)
+ * - lease 가 만료된 주문은 다른 worker 가 다시 claim 할 수 있음
+ * - 완료(상태 전이)는 lease 를 가진 worker 만 가능하고, 허용된 전이만 받음 (OrderStatus.canTransitionTo)
+ */
+@Service
+@Timed(value = "service.method", description = "Service method latency")
+@RequiredArgsConstructor
+@Transactional
+public class OrderQueueService {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+    private final OrderQueueProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReturnService stockReturnService;
+
+    public OrderClaimDTO claim(Order.OrderStatus status, int max, Duration lease) {
+        if (status == null || status == Order.OrderStatus.DELIVERED || status == Order.OrderStatus.CANCELLED) {
+            throw new IllegalArgumentException("status is not claimable: " + status);
+        }
+        if (max <= 0) {
+            throw new IllegalArgumentException("max must be positive: " + max);
+        }
+        int limit = Math.min(max, properties.getMaxClaim());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(resolveLease(lease));
+        String token = UUID.randomUUID().toString();
+
+        // 다른 worker 와 후보가 겹쳐 일부만 claim 된 경우 남은 수만큼 다시 시도
+        int claimed = 0;
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS && claimed < limit; attempt++) {
+            List<Long> candidates = orderRepository.findClaimableIds(status, now, PageRequest.ofSize(limit - claimed));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            claimed += orderRepository.claim(candidates, status, token, until, now);
+        }
+
+        List<OrderSummaryDTO> orders = claimed == 0
+                ? List.of()
+                : orderRepository.findByClaimToken(token).stream()
+                        .map(o -> new OrderSummaryDTO(o.getId(), o.getStatus(), o.getOrderDate(), o.getTotalAmount()))
+                        .toList();
+        return new OrderClaimDTO(token, until, orders);
+    }
+
+    /**
+     * @return 주문이 없으면 empty
+     * @throws IllegalArgumentException 현재 상태에서 허용되지 않는 전이
+     * @throws IllegalStateException lease 를 잃은 경우 (만료 후 다른 worker 가 다시 claim 등)
+     */
+    public Optional<Order> complete(Long orderId, String claimToken, Order.OrderStatus nextStatus) {
+        if (nextStatus == null) {
+            throw new IllegalArgumentException("next status required");
+        }
+        Optional<Order> found = orderRepository.findById(orderId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Order.OrderStatus previous = found.get().getStatus();
+        if (previous == null || !previous.canTransitionTo(nextStatus)) {
+            throw new IllegalArgumentException("order " + orderId + " cannot move from " + previous + " to " + nextStatus);
+        }
+        // 읽은 뒤 저장하면 lease 가 만료된 worker 가 다시 claim 한 worker 의 결과를 덮어쓸 수 있으므로 조건부 UPDATE
+        if (orderRepository.completeClaimed(orderId, claimToken, previous, nextStatus, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("claim is not held or has expired for order " + orderId);
+        }
+        if (nextStatus == Order.OrderStatus.CANCELLED) {
+            stockReturnService.restore(List.of(orderId));
+        }
+        Order completed = orderRepository.findById(orderId).orElseThrow();
+        // bulk update 는 aggregate 이벤트를 거치지 않으므로 직접 발행 (이력 캐시 / 통계 / outbox)
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(completed, previous, nextStatus));
+        return Optional.of(completed);
+    }
+
+    public void release(Long orderId, String claimToken) {
+        if (orderRepository.release(orderId, claimToken) == 0) {
+            throw new IllegalStateException("claim is not held for order " + orderId);
+        }
+    }
+
+    private Duration resolveLease(Duration lease) {
+        if (lease == null) {
+            return properties.getDefaultLease();
+        }
+        if (lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("lease must be positive: " + lease);
+        }
+        return lease.compareTo(properties.getMaxLease()) > 0 ? properties.getMaxLease() : lease;
+    }
+
+}
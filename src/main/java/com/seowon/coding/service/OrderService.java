@@ -1,13 +1,26 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.ArchivedOrder;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.OrderRevisedEvent;
 import com.seowon.coding.domain.model.ProcessingStatus;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProcessingStatusRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.Cart;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingLine;
+import com.seowon.coding.service.pricing.Quote;
+import com.seowon.coding.service.stock.StockReturnService;
+import com.seowon.coding.service.stock.StockWriteBehindService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,11 +28,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 @Service
+@Timed(value = "service.method", description = "Service method latency")
 @RequiredArgsConstructor
 @Transactional
 public class OrderService {
@@ -27,6 +43,13 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final ProcessingStatusRepository processingStatusRepository;
+    private final OrderHistoryService orderHistoryService;
+    private final PricingEngine pricingEngine;
+    private final MeterRegistry meterRegistry;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final StockWriteBehindService stockWriteBehind;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReturnService stockReturnService;
 
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
@@ -35,23 +58,89 @@ public class OrderService {
     
     @Transactional(readOnly = true)
     public Optional<Order> getOrderById(Long id) {
-        return orderRepository.findById(id);
+        // 운영 테이블에 없으면 아카이브된 주문인지 확인
+        return orderRepository.findById(id)
+                .or(() -> archivedOrderRepository.findWithItemsById(id).map(ArchivedOrder::toOrder));
+    }
+
+    // 아카이브에는 종료 상태 주문만 있으므로 그 외 상태는 운영 테이블만 조회
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByStatus(Order.OrderStatus status) {
+        List<Order> orders = orderRepository.findByStatus(status);
+        if (!OrderArchiveService.TERMINAL_STATUSES.contains(status)) {
+            return orders;
+        }
+        return withArchived(orders, archivedOrderRepository.findByStatus(status));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersBetween(LocalDateTime start, LocalDateTime end) {
+        return withArchived(orderRepository.findByOrderDateBetween(start, end),
+                archivedOrderRepository.findByOrderDateBetween(start, end));
+    }
+
+    private static List<Order> withArchived(List<Order> orders, List<ArchivedOrder> archived) {
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        List<Order> merged = new ArrayList<>(orders.size() + archived.size());
+        merged.addAll(orders);
+        archived.forEach(a -> merged.add(a.toOrder()));
+        merged.sort(Comparator.comparing(Order::getOrderDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Order::getId));
+        return merged;
     }
     
 
     public Order updateOrder(Long id, Order order) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
+        Order existing = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        OrderSummaryDTO previous = summaryOf(existing);
+        String previousEmail = existing.getCustomerEmail();
+        boolean wasCancelled = existing.getStatus() == Order.OrderStatus.CANCELLED;
+        boolean cancelling = order.getStatus() == Order.OrderStatus.CANCELLED;
+        // 복원한 재고를 다시 예약하지 않으므로 취소된 주문은 되살리지 않음
+        if (wasCancelled && !cancelling) {
+            throw new IllegalStateException("cancelled order cannot be reopened: " + id);
+        }
+        if (cancelling && !wasCancelled) {
+            // 덮어쓰기 전의 주문 상품 기준으로 복원
+            stockReturnService.restore(List.of(id));
         }
         order.setId(id);
-        return orderRepository.save(order);
+        // lease 필드는 요청 본문에서 받지 않으므로(@JsonIgnore) 처리 중인 worker 의 claim 을 지우지 않도록 유지
+        order.setClaimToken(existing.getClaimToken());
+        order.setClaimedUntil(existing.getClaimedUntil());
+        Order saved = orderRepository.save(order);
+        orderHistoryService.evict(previousEmail);
+        orderHistoryService.evict(saved.getCustomerEmail());
+        // 상태/금액을 통째로 덮어쓰므로 상태 전이 이벤트 대신 수정 전후 값을 발행 (주문 통계 보정)
+        eventPublisher.publishEvent(new OrderRevisedEvent(previous, summaryOf(saved)));
+        return saved;
     }
     
-    public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
+    // 단건 취소: 주문 상품별로 재고 복원 (일괄 취소는 BulkCancelService)
+    public Order cancelOrder(Long id) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + id));
+        order.cancel();
+        for (OrderItem item : order.getItems()) {
+            increaseStock(item.getProduct(), item.getQuantity());
         }
-        orderRepository.deleteById(id);
+        return orderRepository.save(order);
+    }
+
+    public void deleteOrder(Long id) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        OrderSummaryDTO previous = summaryOf(order);
+        orderRepository.delete(order);
+        orderHistoryService.evict(order.getCustomerEmail());
+        eventPublisher.publishEvent(new OrderRevisedEvent(previous, null));
+    }
+
+    private static OrderSummaryDTO summaryOf(Order order) {
+        return new OrderSummaryDTO(order.getId(), order.getStatus(), order.getOrderDate(), order.getTotalAmount());
     }
 
     public void checkCustomerNameAndEmail(String customerName, String customerEmail) {
@@ -66,6 +155,11 @@ public class OrderService {
         }
     }
 
+    // 주문 상품을 한 번의 쿼리로 영속성 컨텍스트에 올려, 이후 상품별 findById 가 SQL 없이 조회되게 함
+    private void preloadProducts(List<Long> productIds) {
+        productRepository.findAllById(productIds.stream().filter(Objects::nonNull).distinct().toList());
+    }
+
     public Product checkProductsQuantity(OrderProduct orderProducts) {
         int qty = orderProducts.getQuantity();
         Long productId = orderProducts.getProductId();
@@ -76,40 +170,66 @@ public class OrderService {
             throw new IllegalArgumentException("quantity must be positive: " + qty);
         }
 //        찾기product에 있는 수량과 입력받은 수량 비교 후 현재 보유보다 큰 입력값일 경우 throw
-        if (product.getStockQuantity() < qty) {
+        // write-behind 사용 시 product 의 재고는 미반영분이 빠진 값이므로 차감 시점에 원장에서 확인
+        if (!stockWriteBehind.isEnabled() && product.getStockQuantity() < qty) {
+            meterRegistry.counter("orders.stock.conflicts", "path", "single").increment();
             throw new IllegalStateException("insufficient stock for product " + productId);
         }
         return product;
     }
 
+    // write-behind 사용 시 product row 를 수정하지 않고 재고 원장에서 예약 (커밋 후 주기적으로 합산 반영)
+    private void decreaseStock(Product product, int qty) {
+        if (!stockWriteBehind.isEnabled()) {
+            product.decreaseStock(qty);
+            return;
+        }
+        if (!stockWriteBehind.tryReserve(product.getId(), qty)) {
+            meterRegistry.counter("orders.stock.conflicts", "path", "single").increment();
+            throw new IllegalStateException("insufficient stock for product " + product.getId());
+        }
+    }
+
+    private void increaseStock(Product product, int qty) {
+        if (stockWriteBehind.isEnabled()) {
+            stockWriteBehind.release(product.getId(), qty);
+        } else {
+            product.increaseStock(qty);
+        }
+    }
+
     public Order placeOrder(String customerName, String customerEmail, List<Long> productIds, List<Integer> quantities) {
-        // TODO #3: 구현 항목
-        Order order = new Order();
-        order.setCustomerName(customerName);
-        order.setCustomerEmail(customerEmail);
-
-        List<Product> products = productIds.stream().map(productId -> {
-            return productRepository.findById(productId).orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
-        }).toList();
-//        OrderItem orderItem = new OrderItem(products);
+        checkCustomerNameAndEmail(customerName, customerEmail);
+        if (productIds == null || quantities == null || productIds.isEmpty() || productIds.size() != quantities.size()) {
+            throw new IllegalArgumentException("productIds and quantities must be non-empty and the same size");
+        }
         // * 주어진 고객 정보로 새 Order를 생성
-        // * 지정된 Product를 주문에 추가
+        Order order = Order.builder()
+                .customerName(customerName)
+                .customerEmail(customerEmail)
+                // * orderDate 를 현재시간으로 설정
+                .orderDate(LocalDateTime.now())
+                .build();
         // * order 의 상태를 PENDING 으로 변경
-        order.setStatus(Order.OrderStatus.PENDING);
-        // * orderDate 를 현재시간으로 설정
-        order.setOrderDate(LocalDateTime.now());
+        order.markAsPending();
+
+        preloadProducts(productIds);
+        for (int i = 0; i < productIds.size(); i++) {
+            OrderProduct req = new OrderProduct(productIds.get(i), quantities.get(i));
+            Product product = checkProductsQuantity(req);
+            // * 지정된 Product를 주문에 추가
+            order.addItem(OrderItem.builder()
+                    .product(product)
+                    .quantity(req.getQuantity())
+                    .price(product.getPrice())
+                    .build());
+            // * 각 Product 의 재고를 수정 (영속 상태이므로 커밋 시 반영)
+            decreaseStock(product, req.getQuantity());
+        }
+        // 가격 규칙 없이 상품 합계로 청구
+        order.recalculateTotalAmount();
         // * order 를 저장
-        orderRepository.save(order);
-        // * 각 Product 의 재고를 수정
-        productIds.forEach(id -> {
-            Product product = productRepository.findById(id).orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
-            quantities.forEach(quantity -> {
-                product.decreaseStock(quantity);
-                productRepository.save(product);
-            });
-        });
-        // * placeOrder 메소드의 시그니처는 변경하지 않은 채 구현하세요.
-        return null;
+        return orderRepository.save(order);
     }
 
     /**
@@ -128,18 +248,18 @@ public class OrderService {
         Order order = Order.builder()
                 .customerName(customerName)
                 .customerEmail(customerEmail)
-                .status(Order.OrderStatus.PENDING)
                 .orderDate(LocalDateTime.now())
                 .items(new ArrayList<>())
                 .totalAmount(BigDecimal.ZERO)
                 .build();
+        order.markAsPending();
 
 
-        BigDecimal subtotal = BigDecimal.ZERO;
 //       args == orderProducts + Order
 //        id + product + qty 3개 받아서 처리
 //        주문상품 리스트를 받아서 수량, 아이디 꺼내고 +
-        orderProducts.get(orderProducts.size()).getProductId();
+        preloadProducts(orderProducts.stream().map(OrderProduct::getProductId).toList());
+        List<PricingLine> lines = new ArrayList<>(orderProducts.size());
         for (OrderProduct req : orderProducts) {
             int qty = req.getQuantity();
             Product product = checkProductsQuantity(req);
@@ -150,18 +270,16 @@ public class OrderService {
                     .quantity(qty)
                     .price(product.getPrice())
                     .build();
-            order.getItems().add(item);
+            order.addItem(item);
+            lines.add(new PricingLine(product.getPrice(), qty, product.getCategory()));
 
 //         현재 상품의 수량 - 입력받은 수량
-            product.decreaseStock(qty);
-            subtotal = subtotal.add(product.getPrice().multiply(BigDecimal.valueOf(qty)));
+            decreaseStock(product, qty);
         }
 
-        BigDecimal shipping = subtotal.compareTo(new BigDecimal("100.00")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.00");
-        BigDecimal discount = (couponCode != null && couponCode.startsWith("SALE")) ? new BigDecimal("10.00") : BigDecimal.ZERO;
-
-        order.setTotalAmount(subtotal.add(shipping).subtract(discount));
-        order.setStatus(Order.OrderStatus.PROCESSING);
+        Quote quote = pricingEngine.quote(new Cart(lines, couponCode));
+        order.setTotalAmount(quote.getTotal());
+        order.markAsProcessing();
         return orderRepository.save(order);
     }
 
@@ -187,12 +305,16 @@ public class OrderService {
         for (Long orderId : (orderIds == null ? List.<Long>of() : orderIds)) {
             try {
                 // 오래 걸리는 작업 이라는 가정 시뮬레이션 (예: 외부 시스템 연동, 대용량 계산 등)
-                orderRepository.findById(orderId).ifPresent(o -> o.setStatus(Order.OrderStatus.PROCESSING));
+                orderRepository.findById(orderId).ifPresent(o -> {
+                    o.markAsProcessing();
+                    orderRepository.save(o);
+                });
                 // 중간 진행률 저장
                 this.updateProgressRequiresNew(jobId, ++processed, orderIds.size());
             } catch (Exception e) {
             }
         }
+        meterRegistry.counter("orders.bulk.processed", "job", "ship").increment(processed);
         ps = processingStatusRepository.findByJobId(jobId).orElse(ps);
         ps.markCompleted();
         processingStatusRepository.save(ps);
@@ -0,0 +1,39 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Product 2차 캐시 / query cache 명시적 무효화
+ * DB 를 직접 수정했거나(운영 보정 등) 다른 노드에서 변경된 경우에 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Long productId) {
+        entityManagerFactory.getCache().evict(Product.class, productId);
+        evictQueries();
+    }
+
+    public void evict(Collection<Long> productIds) {
+        productIds.forEach(id -> entityManagerFactory.getCache().evict(Product.class, id));
+        evictQueries();
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(Product.class);
+        evictQueries();
+    }
+
+    private void evictQueries() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
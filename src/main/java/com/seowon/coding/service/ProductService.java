@@ -2,6 +2,10 @@ package com.seowon.coding.service;
 
 import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.CartQuoteService;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.stock.StockWriteBehindService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,11 +17,15 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "service.method", description = "Service method latency")
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
     
     private final ProductRepository productRepository;
+    private final PricingEngine pricingEngine;
+    private final CartQuoteService cartQuoteService;
+    private final StockWriteBehindService stockWriteBehind;
     
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
@@ -38,7 +46,11 @@ public class ProductService {
             throw new RuntimeException("Product not found with id: " + id);
         }
         product.setId(id);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        cartQuoteService.invalidate();
+        // 재고를 직접 덮어썼으므로 write-behind 원장이 기준값을 다시 읽게 함
+        stockWriteBehind.invalidate(id);
+        return saved;
     }
 
     public void applyBulkPriceChangeNullCheck(List<Long> productIds){
@@ -52,6 +64,7 @@ public class ProductService {
             throw new RuntimeException("Product not found with id: " + id);
         }
         productRepository.deleteById(id);
+        cartQuoteService.invalidate();
     }
 
     @Transactional(readOnly = true)
@@ -70,22 +83,21 @@ public class ProductService {
      */
     public void applyBulkPriceChange(List<Long> productIds, Long percentage, boolean includeTax) {
         applyBulkPriceChangeNullCheck(productIds);
-        // 잘못된 구현 예시: double 사용, 루프 내 개별 조회/저장, 하드코딩 세금/반올림 규칙
+        BigDecimal rate = BigDecimal.valueOf(percentage).movePointLeft(2);
         List<Product> products = new ArrayList<>();
         for (Long id : productIds) {
             Product p = productRepository.findById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
 
-            Long base = (long) (p.getPrice() == null ? 0.0 : p.getPrice().doubleValue());
-            Long changed = (long) (base + (base * (percentage / 100.0))); // 부동소수점 오류 가능
+            BigDecimal base = p.getPrice() == null ? BigDecimal.ZERO : p.getPrice();
+            BigDecimal changed = base.add(base.multiply(rate));
             if (includeTax) {
-                changed = (long) (changed * 1.1); // 하드코딩 VAT 10%, 지역/카테고리별 규칙 미반영
+                changed = pricingEngine.applyVat(changed);
             }
-            // 임의 반올림: 일관되지 않은 스케일/반올림 모드
-            BigDecimal newPrice = BigDecimal.valueOf(changed).setScale(2, RoundingMode.HALF_UP);
-            p.setPrice(newPrice);
+            p.setPrice(changed.setScale(2, RoundingMode.HALF_UP));
             products.add(p);
         }
-        productRepository.saveAll(products); // 루프마다 저장 (비효율적)
+        productRepository.saveAll(products);
+        cartQuoteService.invalidate();
     }
 }
@@ -0,0 +1,31 @@
+package com.seowon.coding.service.outbox;
+
+import com.seowon.coding.domain.model.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행된 이벤트를 메모리에 보관하는 로컬 sink (테스트/로컬 개발용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.sink.in-memory", name = "enabled", havingValue = "true")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    public synchronized List<OutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
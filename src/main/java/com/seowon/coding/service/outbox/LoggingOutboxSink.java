@@ -0,0 +1,23 @@
+package com.seowon.coding.service.outbox;
+
+import com.seowon.coding.domain.model.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.sink.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        if (log.isDebugEnabled()) {
+            for (OutboxEvent event : events) {
+                log.debug("outbox {} {}#{} {}", event.getEventType(), event.getAggregateType(), event.getAggregateId(), event.getPayload());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.seowon.coding.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderRevisedEvent;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.model.OutboxEvent;
+import com.seowon.coding.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 상태 전이와 수정/삭제를 같은 트랜잭션 안에서 outbox 에 기록
+ * 주문 저장이 롤백되면 outbox 기록도 함께 롤백됨
+ * payload 의 orderDate / previousOrderDate 는 주문 롤업 복구(OrderAnalyticsService)가 재계산할 일자를 찾는 데 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxWriter {
+
+    public static final String AGGREGATE_TYPE = "Order";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Order order = event.getOrder();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("customerEmail", order.getCustomerEmail());
+        payload.put("previousStatus", event.getPreviousStatus());
+        payload.put("status", event.getNewStatus());
+        payload.put("orderDate", toString(order.getOrderDate()));
+        payload.put("totalAmount", order.getTotalAmount());
+        payload.put("occurredAt", now.toString());
+
+        save(order.getId(), event.isPlaced() ? "OrderPlaced" : "OrderStatusChanged", payload, now);
+    }
+
+    // PUT 수정 / 삭제: 상태, 주문일, 금액의 수정 전후 값 (current 가 null 이면 삭제)
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderRevised(OrderRevisedEvent event) {
+        OrderSummaryDTO previous = event.getPrevious();
+        OrderSummaryDTO current = event.getCurrent();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", previous != null ? previous.getId() : current.getId());
+        payload.put("previousStatus", previous == null ? null : previous.getStatus());
+        payload.put("status", current == null ? null : current.getStatus());
+        payload.put("previousOrderDate", previous == null ? null : toString(previous.getOrderDate()));
+        payload.put("orderDate", current == null ? null : toString(current.getOrderDate()));
+        payload.put("previousTotalAmount", previous == null ? null : previous.getTotalAmount());
+        payload.put("totalAmount", current == null ? null : current.getTotalAmount());
+        payload.put("occurredAt", now.toString());
+
+        save(payload.get("orderId"), current == null ? "OrderDeleted" : "OrderRevised", payload, now);
+    }
+
+    private void save(Object orderId, String eventType, Map<String, Object> payload, LocalDateTime now) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(String.valueOf(orderId))
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(now)
+                .build());
+    }
+
+    private static String toString(LocalDateTime value) {
+        return value == null ? null : value.toString();
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
+        }
+    }
+}
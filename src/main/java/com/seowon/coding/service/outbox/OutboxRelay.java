@@ -0,0 +1,99 @@
+package com.seowon.coding.service.outbox;
+
+import com.seowon.coding.config.OutboxProperties;
+import com.seowon.coding.domain.model.OutboxEvent;
+import com.seowon.coding.domain.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 미발행 outbox 이벤트를 id 순서대로 batch 단위로 claim 해 모든 sink 에 발행
+ * - claim 트랜잭션은 행 잠금(SKIP LOCKED) 과 lease 기록만 하고 바로 커밋. sink 발행 중에는 DB 잠금/커넥션을 잡지 않음
+ * - 발행 후 claim 토큰이 일치하는 이벤트만 발행 완료로 표시
+ * - sink 실패 시 claim 을 해제해 다음 주기에 재시도. relay 가 죽으면 lease 만료 후 재시도 (at-least-once)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxSink> sinks,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        if (!properties.getRelay().isEnabled()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < properties.getRelay().getMaxBatchesPerRun(); i++) {
+                if (relayBatch() < properties.getRelay().getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, will retry", e);
+        }
+    }
+
+    /**
+     * @return 발행한 이벤트 수
+     */
+    public int relayBatch() {
+        String token = UUID.randomUUID().toString();
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claim(token));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        try {
+            for (OutboxSink sink : sinks) {
+                sink.publish(events);
+            }
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.release(token));
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markPublished(token, LocalDateTime.now()));
+        return events.size();
+    }
+
+    private List<OutboxEvent> claim(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxEventRepository.findClaimable(now, PageRequest.ofSize(properties.getRelay().getBatchSize()))
+                .stream().map(OutboxEvent::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime until = now.plus(properties.getRelay().getClaimTimeout());
+        if (outboxEventRepository.claim(ids, token, until, now) == 0) {
+            return List.of();
+        }
+        return outboxEventRepository.findByClaimToken(token);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention())));
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.service.outbox;
+
+import com.seowon.coding.domain.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트를 외부 시스템(메시지 브로커 등)으로 발행하는 대상
+ * 예외를 던지면 해당 batch 는 발행되지 않은 것으로 남아 다음 주기에 재시도됨 (at-least-once)
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,21 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class Cart {
+    private final List<PricingLine> lines;
+    private final String couponCode;
+
+    public Cart(List<PricingLine> lines, String couponCode) {
+        this.lines = lines;
+        this.couponCode = normalizeCouponCode(couponCode);
+    }
+
+    // 견적/주문 모두 이 규칙으로 쿠폰 코드를 비교 (앞뒤 공백 제거, 빈 값은 쿠폰 없음)
+    public static String normalizeCouponCode(String couponCode) {
+        return couponCode == null || couponCode.isBlank() ? null : couponCode.trim();
+    }
+}
@@ -0,0 +1,159 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.config.PricingProperties;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderProduct;
+import com.seowon.coding.util.ExpiringLruCache;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장 없이 장바구니 금액만 계산하는 견적 서비스
+ * - 같은 장바구니(상품 id/수량/쿠폰 정규화)의 견적은 짧은 TTL 로 memo
+ * - 가격이 바뀌면 invalidate() 로 전체 무효화 (ProductService 에서 호출)
+ * - 재고는 수시로 바뀌므로 견적에서는 확인하지 않음 (checkout 에서 확인)
+ * - memo 조회는 트랜잭션 밖에서 수행하고, miss 인 경우의 상품 조회만 repository 트랜잭션을 사용
+ */
+@Service
+@Timed(value = "service.method", description = "Service method latency")
+public class CartQuoteService {
+
+    private final ProductRepository productRepository;
+    private final PricingEngine pricingEngine;
+    private final ExpiringLruCache<CartKey, Quote> memo;
+    // invalidate 와 동시에 계산 중이던 (이전 가격 기준) 견적이 캐시에 들어가지 않도록 세대 번호로 구분
+    private final AtomicLong generation = new AtomicLong();
+
+    public CartQuoteService(ProductRepository productRepository,
+                            PricingEngine pricingEngine,
+                            PricingProperties properties) {
+        this.productRepository = productRepository;
+        this.pricingEngine = pricingEngine;
+        this.memo = new ExpiringLruCache<>(properties.getQuoteCache().getMaxSize(), properties.getQuoteCache().getTtl());
+    }
+
+    public Quote quote(List<OrderProduct> orderProducts, String couponCode) {
+        CartKey key = normalize(orderProducts, couponCode);
+        Quote cached = memo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generationAtLoad = generation.get();
+
+        List<Long> ids = new ArrayList<>(key.productIds.length);
+        for (long id : key.productIds) {
+            ids.add(id);
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+        List<PricingLine> lines = new ArrayList<>(ids.size());
+        for (int i = 0; i < key.productIds.length; i++) {
+            Product product = products.get(key.productIds[i]);
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + key.productIds[i]);
+            }
+            lines.add(new PricingLine(product.getPrice(), key.quantities[i], product.getCategory()));
+        }
+        Quote quote = pricingEngine.quote(new Cart(lines, key.couponCode));
+
+        if (generation.get() == generationAtLoad) {
+            memo.put(key, quote);
+        }
+        return quote;
+    }
+
+    /**
+     * 가격 변경 시 호출. 트랜잭션 안이면 커밋 직후에도 한 번 더 무효화 (커밋 전 값으로 다시 채워지는 것 방지)
+     */
+    public void invalidate() {
+        invalidateNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow();
+                }
+            });
+        }
+    }
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+        memo.invalidateAll();
+    }
+
+    private CartKey normalize(List<OrderProduct> orderProducts, String couponCode) {
+        if (orderProducts == null || orderProducts.isEmpty()) {
+            throw new IllegalArgumentException("orderReqs invalid");
+        }
+        // 같은 상품이 여러 줄이면 수량 합산, 상품 id 순으로 정렬
+        TreeMap<Long, Integer> quantities = new TreeMap<>();
+        for (OrderProduct orderProduct : orderProducts) {
+            Long productId = orderProduct.getProductId();
+            Integer qty = orderProduct.getQuantity();
+            if (productId == null) {
+                throw new IllegalArgumentException("productId required");
+            }
+            if (qty == null || qty <= 0) {
+                throw new IllegalArgumentException("quantity must be positive: " + qty);
+            }
+            quantities.merge(productId, qty, Integer::sum);
+        }
+        long[] ids = new long[quantities.size()];
+        int[] qtys = new int[quantities.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            ids[i] = entry.getKey();
+            qtys[i] = entry.getValue();
+            i++;
+        }
+        return new CartKey(ids, qtys, Cart.normalizeCouponCode(couponCode));
+    }
+
+    private static final class CartKey {
+        private final long[] productIds;
+        private final int[] quantities;
+        private final String couponCode;
+        private final int hash;
+
+        private CartKey(long[] productIds, int[] quantities, String couponCode) {
+            this.productIds = productIds;
+            this.quantities = quantities;
+            this.couponCode = couponCode;
+            this.hash = 31 * (31 * Arrays.hashCode(productIds) + Arrays.hashCode(quantities))
+                    + (couponCode == null ? 0 : couponCode.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CartKey other)) {
+                return false;
+            }
+            return hash == other.hash
+                    && Arrays.equals(productIds, other.productIds)
+                    && Arrays.equals(quantities, other.quantities)
+                    && (couponCode == null ? other.couponCode == null : couponCode.equals(other.couponCode));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
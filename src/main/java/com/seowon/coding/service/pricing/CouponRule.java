@@ -0,0 +1,44 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 할인: 정확히 일치하는 코드는 HashMap 으로 O(1) 조회, 없으면 prefix 쿠폰(예: SALE*) 확인
+ */
+public class CouponRule implements PricingRule {
+
+    private final Map<String, BigDecimal> exactCodes;
+    private final List<Map.Entry<String, BigDecimal>> prefixCodes;
+
+    public CouponRule(Map<String, BigDecimal> exactCodes, List<Map.Entry<String, BigDecimal>> prefixCodes) {
+        this.exactCodes = Map.copyOf(exactCodes);
+        this.prefixCodes = List.copyOf(prefixCodes);
+    }
+
+    @Override
+    public void apply(PricingContext context) {
+        BigDecimal amount = resolve(context.getCart().getCouponCode());
+        if (amount != null) {
+            context.addDiscount(amount);
+        }
+    }
+
+    BigDecimal resolve(String couponCode) {
+        if (couponCode == null || couponCode.isEmpty()) {
+            return null;
+        }
+        BigDecimal amount = exactCodes.get(couponCode);
+        if (amount != null) {
+            return amount;
+        }
+        for (int i = 0; i < prefixCodes.size(); i++) {
+            Map.Entry<String, BigDecimal> prefix = prefixCodes.get(i);
+            if (couponCode.startsWith(prefix.getKey())) {
+                return prefix.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 한 번의 견적 계산 동안 rule 들이 공유하는 가변 상태
+ */
+@Getter
+public class PricingContext {
+
+    private final Cart cart;
+    private final BigDecimal subtotal;
+    private BigDecimal discount = BigDecimal.ZERO;
+    private BigDecimal shipping = BigDecimal.ZERO;
+    private BigDecimal tax = BigDecimal.ZERO;
+
+    PricingContext(Cart cart, BigDecimal subtotal) {
+        this.cart = cart;
+        this.subtotal = subtotal;
+    }
+
+    // 할인은 상품 금액을 넘지 않음
+    public void addDiscount(BigDecimal amount) {
+        BigDecimal next = discount.add(amount);
+        this.discount = next.compareTo(subtotal) > 0 ? subtotal : next;
+    }
+
+    public void setShipping(BigDecimal shipping) {
+        this.shipping = shipping;
+    }
+
+    public void setTax(BigDecimal tax) {
+        this.tax = tax;
+    }
+
+    public BigDecimal getDiscountedSubtotal() {
+        return subtotal.subtract(discount);
+    }
+
+    Quote toQuote() {
+        return new Quote(subtotal, discount, shipping, tax, subtotal.subtract(discount).add(shipping).add(tax));
+    }
+}
@@ -0,0 +1,87 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.config.PricingProperties;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 금액 계산 엔진
+ * - 설정(PricingProperties)으로부터 rule pipeline 을 시작 시 한 번 구성 (promotion -> coupon -> shipping -> tax)
+ * - 구성 후에는 불변이므로 여러 스레드에서 공유
+ */
+public class PricingEngine {
+
+    private final List<PricingRule> rules;
+    private final BigDecimal vatMultiplier;
+
+    public PricingEngine(List<PricingRule> rules, BigDecimal vatRate) {
+        this.rules = List.copyOf(rules);
+        this.vatMultiplier = BigDecimal.ONE.add(vatRate);
+    }
+
+    public static PricingEngine from(PricingProperties properties) {
+        Map<String, BigDecimal> promotions = new HashMap<>();
+        for (PricingProperties.Promotion promotion : properties.getPromotions()) {
+            promotions.put(promotion.getCategory(), promotion.getPercent());
+        }
+        Map<String, BigDecimal> exactCoupons = new HashMap<>();
+        List<Map.Entry<String, BigDecimal>> prefixCoupons = new ArrayList<>();
+        for (PricingProperties.Coupon coupon : properties.getCoupons()) {
+            if (coupon.isPrefix()) {
+                prefixCoupons.add(new AbstractMap.SimpleImmutableEntry<>(coupon.getCode(), coupon.getAmount()));
+            } else {
+                exactCoupons.put(coupon.getCode(), coupon.getAmount());
+            }
+        }
+        return new PricingEngine(List.of(
+                new PromotionRule(promotions),
+                new CouponRule(exactCoupons, prefixCoupons),
+                new ShippingRule(properties.getShipping().getFreeThreshold(), properties.getShipping().getFee()),
+                new TaxRule(properties.getTaxRate())
+        ), properties.getVatRate());
+    }
+
+    /**
+     * 기본 설정 (무료배송 100.00 / 배송비 5.00, SALE* 쿠폰 10.00, 세금 없음, VAT 10%)
+     */
+    public static PricingEngine defaults() {
+        PricingProperties properties = new PricingProperties();
+        PricingProperties.Coupon sale = new PricingProperties.Coupon();
+        sale.setCode("SALE");
+        sale.setPrefix(true);
+        sale.setAmount(new BigDecimal("10.00"));
+        properties.getCoupons().add(sale);
+        return from(properties);
+    }
+
+    public Quote quote(Cart cart) {
+        List<PricingLine> lines = cart.getLines();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int i = 0; i < lines.size(); i++) {
+            PricingLine line = lines.get(i);
+            subtotal = subtotal.add(line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+        PricingContext context = new PricingContext(cart, subtotal);
+        for (int i = 0; i < rules.size(); i++) {
+            rules.get(i).apply(context);
+        }
+        return context.toQuote();
+    }
+
+    public List<Quote> quoteAll(List<Cart> carts) {
+        List<Quote> quotes = new ArrayList<>(carts.size());
+        for (Cart cart : carts) {
+            quotes.add(quote(cart));
+        }
+        return quotes;
+    }
+
+    public BigDecimal applyVat(BigDecimal price) {
+        return price.multiply(vatMultiplier);
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class PricingLine {
+    private final BigDecimal unitPrice;
+    private final int quantity;
+    private final String category;
+}
@@ -0,0 +1,10 @@
+package com.seowon.coding.service.pricing;
+
+/**
+ * 가격 계산 pipeline 의 한 단계 (promotion, coupon, shipping, tax ...)
+ * 구현체는 생성 시점에 설정을 미리 계산해 두고 apply 는 상태 없이 동작해야 함 (여러 스레드에서 공유)
+ */
+public interface PricingRule {
+
+    void apply(PricingContext context);
+}
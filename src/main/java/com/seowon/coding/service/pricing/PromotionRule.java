@@ -0,0 +1,39 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 정률 할인
+ */
+public class PromotionRule implements PricingRule {
+
+    private final Map<String, BigDecimal> rateByCategory;
+
+    public PromotionRule(Map<String, BigDecimal> percentByCategory) {
+        this.rateByCategory = percentByCategory.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().movePointLeft(2)));
+    }
+
+    @Override
+    public void apply(PricingContext context) {
+        if (rateByCategory.isEmpty()) {
+            return;
+        }
+        BigDecimal discount = BigDecimal.ZERO;
+        List<PricingLine> lines = context.getCart().getLines();
+        for (int i = 0; i < lines.size(); i++) {
+            PricingLine line = lines.get(i);
+            BigDecimal rate = line.getCategory() == null ? null : rateByCategory.get(line.getCategory());
+            if (rate != null) {
+                discount = discount.add(line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity())).multiply(rate));
+            }
+        }
+        if (discount.signum() > 0) {
+            context.addDiscount(discount.setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * total = subtotal - discount + shipping + tax
+ */
+@Getter
+@AllArgsConstructor
+public class Quote {
+    private final BigDecimal subtotal;
+    private final BigDecimal discount;
+    private final BigDecimal shipping;
+    private final BigDecimal tax;
+    private final BigDecimal total;
+}
@@ -0,0 +1,22 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 금액(할인 전)이 기준 이상이면 무료배송, 아니면 고정 배송비
+ */
+public class ShippingRule implements PricingRule {
+
+    private final BigDecimal freeThreshold;
+    private final BigDecimal fee;
+
+    public ShippingRule(BigDecimal freeThreshold, BigDecimal fee) {
+        this.freeThreshold = freeThreshold;
+        this.fee = fee;
+    }
+
+    @Override
+    public void apply(PricingContext context) {
+        context.setShipping(context.getSubtotal().compareTo(freeThreshold) >= 0 ? BigDecimal.ZERO : fee);
+    }
+}
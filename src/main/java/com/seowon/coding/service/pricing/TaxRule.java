@@ -0,0 +1,24 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 할인 후 상품 금액에 대한 세금 (배송비 제외)
+ */
+public class TaxRule implements PricingRule {
+
+    private final BigDecimal rate;
+
+    public TaxRule(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void apply(PricingContext context) {
+        if (rate.signum() == 0) {
+            return;
+        }
+        context.setTax(context.getDiscountedSubtotal().multiply(rate).setScale(2, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,162 @@
+package com.seowon.coding.service.stock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 트랜잭션별 재고 변경분(txId, productId, delta) 의 append-only 로그
+ * - segment 파일 단위로 기록하고, flush 시 새 segment 로 rotate 한 뒤 DB 반영이 끝난 segment 를 삭제
+ * - record: txId(8) + productId(8) + delta(8) + crc32(4)
+ * - DB 커밋 전에 기록하므로 읽을 때 커밋된 txId 의 record 만 합산
+ * - 기록 중 종료되어 잘리거나 깨진 마지막 record 는 읽을 때 무시
+ * - 기록에 실패하면 이후 record 의 위치가 어긋날 수 있으므로 다음 rotate 까지 기록을 거부
+ */
+class StockDeltaLog implements Closeable {
+
+    static final int RECORD_BYTES = 28;
+    private static final int PAYLOAD_BYTES = 24;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("stock-delta-(\\d+)\\.log");
+
+    private final Path dir;
+    private final boolean fsync;
+    private FileChannel active;
+    private long activeSegment;
+    private boolean dirty;
+    private boolean broken;
+
+    StockDeltaLog(Path dir, boolean fsync) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.fsync = fsync;
+    }
+
+    /**
+     * 디렉터리에 남아있는 segment (번호 순)
+     */
+    SortedMap<Long, Path> segments() throws IOException {
+        SortedMap<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher m = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (m.matches()) {
+                    segments.put(Long.parseLong(m.group(1)), file);
+                }
+            });
+        }
+        return segments;
+    }
+
+    /**
+     * segment 에서 committed 인 트랜잭션의 record 를 상품별로 합산
+     */
+    static Map<Long, Long> read(Path segment, LongPredicate committed) throws IOException {
+        Map<Long, Long> deltas = new HashMap<>();
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(segment));
+        CRC32 crc = new CRC32();
+        while (buf.remaining() >= RECORD_BYTES) {
+            crc.reset();
+            crc.update(buf.array(), buf.position(), PAYLOAD_BYTES);
+            long txId = buf.getLong();
+            long productId = buf.getLong();
+            long delta = buf.getLong();
+            if ((int) crc.getValue() != buf.getInt()) {
+                break;
+            }
+            if (committed.test(txId)) {
+                deltas.merge(productId, delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    synchronized void open(long segment) throws IOException {
+        active = FileChannel.open(path(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSegment = segment;
+        dirty = active.size() > 0;
+        broken = false;
+    }
+
+    synchronized void append(long txId, Map<Long, Long> deltas) throws IOException {
+        if (broken) {
+            throw new IOException("stock delta segment " + activeSegment + " is broken until the next rotate");
+        }
+        ByteBuffer buf = ByteBuffer.allocate(deltas.size() * RECORD_BYTES);
+        CRC32 crc = new CRC32();
+        deltas.forEach((productId, delta) -> {
+            int start = buf.position();
+            buf.putLong(txId).putLong(productId).putLong(delta);
+            crc.reset();
+            crc.update(buf.array(), start, PAYLOAD_BYTES);
+            buf.putInt((int) crc.getValue());
+        });
+        buf.flip();
+        dirty = true;
+        try {
+            while (buf.hasRemaining()) {
+                active.write(buf);
+            }
+            if (fsync) {
+                active.force(false);
+            }
+        } catch (IOException e) {
+            broken = true;
+            throw e;
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return !dirty;
+    }
+
+    synchronized boolean isBroken() {
+        return broken;
+    }
+
+    synchronized long activeSegment() {
+        return activeSegment;
+    }
+
+    /**
+     * 다음 번호의 segment 로 기록 대상을 바꾸고 닫은 segment 번호를 반환
+     */
+    synchronized long rotate() throws IOException {
+        long closed = activeSegment;
+        FileChannel next = FileChannel.open(path(closed + 1),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        active.close();
+        active = next;
+        activeSegment = closed + 1;
+        dirty = false;
+        broken = false;
+        return closed;
+    }
+
+    void delete(long segment) throws IOException {
+        Files.deleteIfExists(path(segment));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (active != null) {
+            active.close();
+        }
+    }
+
+    private Path path(long segment) {
+        return dir.resolve("stock-delta-" + segment + ".log");
+    }
+}
@@ -0,0 +1,66 @@
+package com.seowon.coding.service.stock;
+
+import com.seowon.coding.domain.dto.ProductQuantityDTO;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.service.ProductCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 취소된 주문의 재고 복원 (일괄 취소 / 작업 큐 완료 / 주문 수정 공통)
+ * - 주문 상품 수량을 상품별로 합산해 상품 id 순서로 한 번의 batch update (동시에 취소하는 트랜잭션끼리 같은 순서로 잠금)
+ * - JPQL bulk update 는 Product 2차 캐시 region 전체를 비우므로 JDBC 로 갱신하고, 커밋 후 바뀐 상품만 캐시에서 제거
+ * - write-behind 사용 시 product row 대신 재고 원장에 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReturnService {
+
+    private static final String INCREASE_STOCK = "update product set stock_quantity = stock_quantity + ? where id = ?";
+
+    private final OrderRepository orderRepository;
+    private final StockWriteBehindService stockWriteBehind;
+    private final ProductCacheService productCacheService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 상태를 바꾸는 트랜잭션 안에서 호출 (롤백되면 재고 복원도 함께 롤백)
+     */
+    public void restore(Collection<Long> orderIds) {
+        List<ProductQuantityDTO> returns = orderRepository.sumQuantitiesByProduct(orderIds);
+        if (returns.isEmpty()) {
+            return;
+        }
+        if (stockWriteBehind.isEnabled()) {
+            for (ProductQuantityDTO r : returns) {
+                stockWriteBehind.release(r.getProductId(), Math.toIntExact(r.getQuantity()));
+            }
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(returns.size());
+        List<Long> productIds = new ArrayList<>(returns.size());
+        for (ProductQuantityDTO r : returns) {
+            args.add(new Object[]{r.getQuantity(), r.getProductId()});
+            productIds.add(r.getProductId());
+        }
+        jdbcTemplate.batchUpdate(INCREASE_STOCK, args);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 비우면 그 사이 다른 트랜잭션이 이전 재고를 다시 캐시할 수 있음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    productCacheService.evict(productIds);
+                }
+            });
+        } else {
+            productCacheService.evict(productIds);
+        }
+    }
+}
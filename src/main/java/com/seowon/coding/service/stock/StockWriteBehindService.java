@@ -0,0 +1,422 @@
+package com.seowon.coding.service.stock;
+
+import com.seowon.coding.config.StockWriteBehindProperties;
+import com.seowon.coding.domain.model.StockFlushCheckpoint;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.domain.repository.StockFlushCheckpointRepository;
+import com.seowon.coding.service.ProductCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재고 write-behind
+ * - 주문 트랜잭션은 product row 를 수정하지 않고 상품별 메모리 원장에서 재고를 예약 (원자적 확인/차감)
+ * - 변경분은 커밋 직전(beforeCommit) delta log 에 기록하고 같은 트랜잭션에 커밋 표시(StockDeltaCommit)를 저장
+ *   로그 기록에 실패하면 주문 트랜잭션도 실패하므로 커밋됐는데 로그에 없는 변경분은 생기지 않음
+ * - 커밋 후 원장에 누적하고, 주기적으로 상품별 합산 UPDATE 를 batch 로 반영
+ * - 재시작 시 DB 에 반영되지 않은 log segment 중 커밋 표시가 있는 트랜잭션의 변경분만 재생
+ *   (반영된 segment 는 StockFlushCheckpoint 로 구분)
+ * - 로그 기록이 한 번 실패하면 다음 flush 에서 새 segment 로 넘어갈 때까지 재고 예약을 거부
+ * - product row 를 직접 수정한 경우(관리자 수정 등) invalidate 로 원장의 기준값을 다시 읽게 해야 함
+ * - product.stock_quantity 는 flush 주기만큼 늦게 반영되므로 상품 조회 API 의 재고는 그만큼 과거 값일 수 있음
+ */
+@Slf4j
+@Service
+public class StockWriteBehindService {
+
+    private static final String UPDATE_STOCK = "update product set stock_quantity = stock_quantity + ? where id = ?";
+    private static final String INSERT_COMMIT = "insert into stock_delta_commit (tx_id, segment) values (?, ?)";
+    private static final String SELECT_COMMITS = "select tx_id from stock_delta_commit where segment = ?";
+    private static final String DELETE_COMMITS = "delete from stock_delta_commit where segment = ?";
+
+    private final ProductRepository productRepository;
+    private final StockFlushCheckpointRepository checkpointRepository;
+    private final ProductCacheService productCacheService;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockWriteBehindProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, StockEntry> entries = new ConcurrentHashMap<>();
+    // 커밋분 기록 ~ 원장 반영(read, beforeCommit 부터 afterCompletion 까지) 과 flush 의 drain + rotate(write) 를
+    // 배타적으로 실행해 닫힌 segment 와 drain 한 변경분을 일치시킴
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    // txId 하위 32bit. 상위 32bit 는 segment 번호 (segment 는 재시작해도 겹치지 않음)
+    private final AtomicLong txSequence = new AtomicLong();
+    // 반영에 실패해 변경분이 원장으로 돌아간 segment (다음 flush 에서 함께 checkpoint)
+    private final List<Long> unflushedSegments = new ArrayList<>();
+    private StockDeltaLog deltaLog;
+
+    public StockWriteBehindService(ProductRepository productRepository,
+                                   StockFlushCheckpointRepository checkpointRepository,
+                                   ProductCacheService productCacheService,
+                                   JdbcTemplate jdbcTemplate,
+                                   StockWriteBehindProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.productCacheService = productCacheService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        deltaLog = new StockDeltaLog(Path.of(properties.getLogDir()), properties.isFsync());
+        SortedMap<Long, Path> segments = deltaLog.segments();
+        long last = Math.max(segments.isEmpty() ? 0 : segments.lastKey(), checkpointRepository.findMaxSegment().orElse(0L));
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            if (!checkpointRepository.existsById(segment.getKey())) {
+                Set<Long> committed = new HashSet<>(
+                        jdbcTemplate.queryForList(SELECT_COMMITS, Long.class, segment.getKey()));
+                Map<Long, Long> deltas = StockDeltaLog.read(segment.getValue(), committed::contains);
+                apply(List.of(segment.getKey()), new TreeMap<>(deltas));
+                log.info("Replayed stock delta segment {} ({} products)", segment.getKey(), deltas.size());
+            }
+            deltaLog.delete(segment.getKey());
+        }
+        deltaLog.open(last + 1);
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        if (deltaLog != null) {
+            flush();
+            deltaLog.close();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 재고를 예약. 커밋되면 차감이 확정되고 롤백되면 예약이 풀림
+     * @return 가용 재고가 부족하면 false
+     */
+    public boolean tryReserve(Long productId, int quantity) {
+        if (deltaLog.isBroken()) {
+            throw new IllegalStateException("stock delta log is unavailable, rejecting reservation for product " + productId);
+        }
+        TxStockChanges changes = currentChanges();
+        StockEntry entry = entries.computeIfAbsent(productId, id -> new StockEntry());
+        synchronized (entry) {
+            load(productId, entry);
+            if (entry.available() < quantity) {
+                return false;
+            }
+            entry.reserved += quantity;
+        }
+        changes.reserved.merge(productId, (long) quantity, Long::sum);
+        return true;
+    }
+
+    /**
+     * 같은 트랜잭션에서 tryReserve 한 수량을 되돌림 (여러 상품 중 일부만 예약된 경우)
+     */
+    public void cancelReservation(Long productId, int quantity) {
+        currentChanges().reserved.merge(productId, (long) -quantity, Long::sum);
+        StockEntry entry = entries.get(productId);
+        synchronized (entry) {
+            entry.reserved -= quantity;
+        }
+    }
+
+    /**
+     * 재고 복원 (주문 취소 등). 커밋 후 가용 재고에 더해짐
+     */
+    public void release(Long productId, int quantity) {
+        currentChanges().released.merge(productId, (long) quantity, Long::sum);
+    }
+
+    /**
+     * product row 를 직접 수정한 경우 호출. 커밋 후 다음 예약 시 DB 에서 기준값을 다시 읽음
+     */
+    public void invalidate(Long productId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(productId);
+                }
+            });
+        } else {
+            invalidateNow(productId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.write-behind.flush-interval-ms:200}")
+    public synchronized void flush() {
+        if (deltaLog == null) {
+            return;
+        }
+        TreeMap<Long, Long> batch = new TreeMap<>();
+        long segment;
+        segmentLock.writeLock().lock();
+        try {
+            entries.forEach((id, entry) -> {
+                synchronized (entry) {
+                    if (entry.pending != 0) {
+                        batch.put(id, entry.pending);
+                        entry.flushing = entry.pending;
+                        entry.pending = 0;
+                    }
+                }
+            });
+            if (batch.isEmpty() && deltaLog.isEmpty()) {
+                return;
+            }
+            segment = deltaLog.rotate();
+        } catch (IOException e) {
+            log.warn("Failed to rotate stock delta log, will retry", e);
+            settle(batch, false);
+            return;
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+
+        unflushedSegments.add(segment);
+        try {
+            apply(unflushedSegments, batch);
+        } catch (RuntimeException e) {
+            // 변경분은 원장으로 되돌리고, 닫힌 segment 는 다음 flush 의 checkpoint 에 포함
+            log.warn("Failed to flush stock deltas for {} products, will retry", batch.size(), e);
+            settle(batch, false);
+            return;
+        }
+        settle(batch, true);
+        for (Long flushed : unflushedSegments) {
+            try {
+                deltaLog.delete(flushed);
+            } catch (IOException e) {
+                log.warn("Failed to delete flushed stock delta segment {}", flushed, e);
+            }
+        }
+        unflushedSegments.clear();
+        meterRegistry.counter("stock.write-behind.flushed").increment(batch.size());
+    }
+
+    // 상품 id 순서로 update 해서 다른 다건 update 와 교착을 피함
+    private void apply(List<Long> segments, TreeMap<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!args.isEmpty()) {
+                int[] updated = jdbcTemplate.batchUpdate(UPDATE_STOCK, args);
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] == 0) {
+                        log.warn("Dropped stock delta {} for missing product {}", args.get(i)[0], args.get(i)[1]);
+                    }
+                }
+            }
+            checkpointRepository.saveAll(segments.stream()
+                    .map(s -> StockFlushCheckpoint.builder().segment(s).products(deltas.size()).appliedAt(now).build())
+                    .toList());
+            // checkpoint 된 segment 는 재생하지 않으므로 커밋 표시도 필요 없음
+            segments.forEach(s -> jdbcTemplate.update(DELETE_COMMITS, s));
+        });
+        // JDBC 로 직접 수정했으므로 2차 캐시를 비움
+        if (!deltas.isEmpty()) {
+            productCacheService.evict(deltas.keySet());
+        }
+    }
+
+    private void settle(Map<Long, Long> batch, boolean applied) {
+        batch.forEach((id, delta) -> {
+            StockEntry entry = entries.get(id);
+            synchronized (entry) {
+                if (applied) {
+                    entry.base += delta;
+                } else {
+                    entry.pending += delta;
+                }
+                entry.flushing = 0;
+                if (entry.reloadAfterFlush) {
+                    entry.loaded = false;
+                    entry.reloadAfterFlush = false;
+                }
+                entry.notifyAll();
+            }
+        });
+    }
+
+    private void load(Long productId, StockEntry entry) {
+        if (entry.loaded) {
+            return;
+        }
+        // 반영 중인 변경분이 DB 값에 포함됐는지 알 수 없으므로 flush 가 끝날 때까지 대기
+        long deadline = System.nanoTime() + properties.getLoadTimeout().toNanos();
+        while (entry.flushing != 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("stock flush in progress for product " + productId);
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(entry, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while loading stock for product " + productId, e);
+            }
+        }
+        entry.base = productRepository.findStockQuantityById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        entry.loaded = true;
+    }
+
+    private void invalidateNow(Long productId) {
+        StockEntry entry = entries.get(productId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.flushing != 0) {
+                entry.reloadAfterFlush = true;
+            } else {
+                entry.loaded = false;
+            }
+        }
+    }
+
+    private TxStockChanges currentChanges() {
+        TxStockChanges changes = (TxStockChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                throw new IllegalStateException("stock changes require an active transaction");
+            }
+            changes = new TxStockChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    /**
+     * 커밋 직전 변경분을 로그에 기록하고 같은 트랜잭션에 커밋 표시를 저장
+     * 실패하면 예외로 트랜잭션을 롤백시킴. read lock 은 afterCompletion 에서 해제
+     */
+    private void log(TxStockChanges changes) {
+        Map<Long, Long> deltas = new HashMap<>(changes.released);
+        changes.reserved.forEach((id, quantity) -> deltas.merge(id, -quantity, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        changes.deltas = deltas;
+
+        segmentLock.readLock().lock();
+        changes.locked = true;
+        if (deltas.isEmpty()) {
+            return;
+        }
+        long segment = deltaLog.activeSegment();
+        long txId = (segment << 32) | (txSequence.incrementAndGet() & 0xFFFFFFFFL);
+        jdbcTemplate.update(INSERT_COMMIT, txId, segment);
+        try {
+            deltaLog.append(txId, deltas);
+        } catch (IOException e) {
+            meterRegistry.counter("stock.write-behind.log.failures").increment();
+            throw new IllegalStateException("Failed to append stock deltas " + deltas, e);
+        }
+    }
+
+    // 예약 해제와 차감 확정을 한 번에 적용해야 그 사이에 가용 재고가 부풀려 보이지 않음
+    private void commit(TxStockChanges changes) {
+        Set<Long> productIds = new HashSet<>(changes.reserved.keySet());
+        productIds.addAll(changes.deltas.keySet());
+        for (Long id : productIds) {
+            StockEntry entry = entries.computeIfAbsent(id, k -> new StockEntry());
+            synchronized (entry) {
+                entry.reserved -= changes.reserved.getOrDefault(id, 0L);
+                entry.pending += changes.deltas.getOrDefault(id, 0L);
+            }
+        }
+    }
+
+    private void rollback(TxStockChanges changes) {
+        changes.reserved.forEach((id, quantity) -> {
+            StockEntry entry = entries.get(id);
+            synchronized (entry) {
+                entry.reserved -= quantity;
+            }
+        });
+    }
+
+    /**
+     * 상품별 재고 원장 (entry monitor 로 보호)
+     * 가용 재고 = DB 기준값 + 미반영 변경분 + 반영 중인 변경분 - 커밋 전 예약
+     */
+    private static class StockEntry {
+        long base;
+        long pending;
+        long flushing;
+        long reserved;
+        boolean loaded;
+        boolean reloadAfterFlush;
+
+        long available() {
+            return base + pending + flushing - reserved;
+        }
+    }
+
+    private class TxStockChanges implements TransactionSynchronization {
+        final Map<Long, Long> reserved = new HashMap<>();
+        final Map<Long, Long> released = new HashMap<>();
+        Map<Long, Long> deltas = Map.of();
+        boolean locked;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            log(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StockWriteBehindService.this);
+            try {
+                if (status == STATUS_COMMITTED) {
+                    commit(this);
+                } else {
+                    rollback(this);
+                }
+            } finally {
+                if (locked) {
+                    segmentLock.readLock().unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.seowon.coding.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관측한 지연시간에 따라 동시 처리 한도를 조절하는 AIMD limiter
+ * - 목표 지연 이내로 끝난 요청: 한도를 1/limit 만큼 증가 (한도만큼 처리하면 약 +1)
+ * - 목표 지연을 넘긴 요청: 한도에 backoffRatio 를 곱해 감소. 단 backoffWindow 마다 한 번만
+ *   (같은 과부하 구간에 끝나는 느린 요청들이 연달아 한도를 줄여 minLimit 까지 떨어뜨리지 않도록)
+ * 한도를 넘는 요청은 대기 없이 즉시 거절됨
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long backoffWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // double 한도를 bit 로 저장해 CAS 로 갱신
+    private final AtomicLong limitBits;
+    private final AtomicLong lastBackoffNanos = new AtomicLong(NEVER);
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long targetLatencyNanos, double backoffRatio, long backoffWindowNanos) {
+        if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("require 0 < minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.backoffWindowNanos = backoffWindowNanos;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > getLimit()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * tryAcquire 가 true 였던 요청이 끝났을 때 반드시 호출
+     * @param nowNanos 요청이 끝난 시각 (System.nanoTime 기준)
+     */
+    public void release(long latencyNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        boolean overloaded = latencyNanos > targetLatencyNanos;
+        if (overloaded && !startBackoffWindow(nowNanos)) {
+            // 이번 window 에서 이미 줄였음
+            return;
+        }
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = overloaded
+                    ? Math.max(minLimit, limit * backoffRatio)
+                    : Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private boolean startBackoffWindow(long nowNanos) {
+        long last = lastBackoffNanos.get();
+        if (last != NEVER && nowNanos - last < backoffWindowNanos) {
+            return false;
+        }
+        return lastBackoffNanos.compareAndSet(last, nowNanos);
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
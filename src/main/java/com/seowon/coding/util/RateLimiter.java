@@ -0,0 +1,48 @@
+package com.seowon.coding.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 기반 lock-free token bucket
+ * 상태는 "이론적 도착 시각(TAT)" 하나뿐이라 CAS 한 번으로 획득/거절이 결정됨
+ * - permitsPerSecond: 평균 허용률, burst: 쉬고 있다가 한꺼번에 허용되는 최대 요청 수
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public RateLimiter(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 다음 요청이 허용될 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(최근 요청이 없는) 상태인지: 정리 대상 판단용
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
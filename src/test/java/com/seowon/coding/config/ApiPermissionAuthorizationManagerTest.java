@@ -0,0 +1,100 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PermissionExplainer;
+import com.seowon.coding.domain.model.PermissionIndex;
+import com.seowon.coding.domain.model.Policy;
+import com.seowon.coding.domain.model.Statement;
+import com.seowon.coding.domain.model.User;
+import com.seowon.coding.domain.model.UserGroup;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiPermissionAuthorizationManagerTest {
+
+    private final List<User> users = List.of(new User("admin", List.of("operators")));
+    private final List<UserGroup> groups = List.of(new UserGroup("operators", List.of("orders-read")));
+    private final List<Policy> policies = List.of(new Policy("orders-read", List.of(Statement.builder()
+            .actions(List.of("read")).resources(List.of("orders")).build())));
+    private final Authentication admin = UsernamePasswordAuthenticationToken.authenticated("admin", null, List.of());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void check_ShouldRecordSampledDecisions_WhenExplainEnabled() {
+        ApiPermissionAuthorizationManager manager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, policies), meterRegistry,
+                new PermissionExplainer(users, groups, policies), 1.0);
+
+        assertTrue(manager.check(() -> admin, context("GET", "/api/orders/1")).isGranted());
+        assertFalse(manager.check(() -> admin, context("POST", "/api/orders")).isGranted());
+
+        assertEquals(1, meterRegistry.get("authz.decision.sampled").tag("outcome", "allow").timer().count());
+        assertEquals(1, meterRegistry.get("authz.decision.sampled").tag("outcome", "deny").timer().count());
+        assertEquals(1, meterRegistry.get("authz.decision").tag("outcome", "deny").timer().count());
+    }
+
+    @Test
+    void check_ShouldNotSample_WhenExplainDisabled() {
+        ApiPermissionAuthorizationManager manager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, policies), meterRegistry);
+
+        assertTrue(manager.check(() -> admin, context("GET", "/api/orders")).isGranted());
+
+        assertNull(meterRegistry.find("authz.decision.sampled").timer());
+        assertEquals(1, meterRegistry.get("authz.decision").tag("outcome", "allow").timer().count());
+    }
+
+    @Test
+    void check_ShouldRequireAdminAction_ForRollupRebuild() {
+        List<Policy> writers = List.of(new Policy("orders-read", List.of(Statement.builder()
+                .actions(List.of("read", "write")).resources(List.of("orders")).build())));
+        ApiPermissionAuthorizationManager manager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, writers), meterRegistry);
+
+        assertTrue(manager.check(() -> admin, context("POST", "/api/orders/checkout")).isGranted());
+        assertFalse(manager.check(() -> admin, context("POST", "/api/orders/analytics/rebuild")).isGranted());
+
+        List<Policy> admins = List.of(new Policy("orders-read", List.of(Statement.builder()
+                .actions(List.of("admin")).resources(List.of("orders")).build())));
+        ApiPermissionAuthorizationManager adminManager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, admins), meterRegistry);
+        assertTrue(adminManager.check(() -> admin, context("POST", "/api/orders/analytics/rebuild")).isGranted());
+    }
+
+    @Test
+    void check_ShouldRequireAdminAction_ForBulkCancelAndProductCacheClear() {
+        List<Policy> writers = List.of(new Policy("orders-read", List.of(Statement.builder()
+                .actions(List.of("read", "write")).resources(List.of("orders", "products")).build())));
+        ApiPermissionAuthorizationManager manager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, writers), meterRegistry);
+
+        assertTrue(manager.check(() -> admin, context("DELETE", "/api/products/1")).isGranted());
+        assertFalse(manager.check(() -> admin, context("POST", "/api/orders/bulk-cancel")).isGranted());
+        assertFalse(manager.check(() -> admin, context("DELETE", "/api/products/cache")).isGranted());
+
+        List<Policy> admins = List.of(new Policy("orders-read", List.of(Statement.builder()
+                .actions(List.of("admin")).resources(List.of("orders", "products")).build())));
+        ApiPermissionAuthorizationManager adminManager = new ApiPermissionAuthorizationManager(
+                PermissionIndex.compile(users, groups, admins), meterRegistry);
+        assertTrue(adminManager.check(() -> admin, context("POST", "/api/orders/bulk-cancel")).isGranted());
+        assertTrue(adminManager.check(() -> admin, context("DELETE", "/api/products/cache")).isGranted());
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidSampleRate() {
+        assertThrows(IllegalArgumentException.class, () -> new ApiPermissionAuthorizationManager(
+                PermissionIndex.empty(), meterRegistry, null, 1.5));
+    }
+
+    private static RequestAuthorizationContext context(String method, String uri) {
+        return new RequestAuthorizationContext(new MockHttpServletRequest(method, uri));
+    }
+}
@@ -0,0 +1,63 @@
+package com.seowon.coding.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CachingDaoAuthenticationProviderTest {
+
+    private PasswordEncoder passwordEncoder;
+    private InMemoryUserDetailsManager users;
+    private CachingDaoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.matches(any(), anyString()))
+                .thenAnswer(inv -> ("hash:" + inv.getArgument(0)).equals(inv.getArgument(1)));
+        users = new InMemoryUserDetailsManager(User.withUsername("admin").password("hash:secret").roles("USER").build());
+
+        provider = new CachingDaoAuthenticationProvider(new AuthCacheProperties());
+        provider.setUserDetailsService(users);
+        provider.setPasswordEncoder(passwordEncoder);
+    }
+
+    @Test
+    void authenticate_ShouldVerifyPasswordOnce_WhenCredentialsRepeat() {
+        provider.authenticate(token("admin", "secret"));
+        provider.authenticate(token("admin", "secret"));
+
+        verify(passwordEncoder, times(1)).matches(any(), anyString());
+    }
+
+    @Test
+    void authenticate_ShouldNotCacheFailures() {
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+
+        verify(passwordEncoder, times(2)).matches(any(), anyString());
+    }
+
+    @Test
+    void authenticate_ShouldReverify_WhenStoredPasswordChanges() {
+        provider.authenticate(token("admin", "secret"));
+
+        users.updateUser(User.withUsername("admin").password("hash:changed").roles("USER").build());
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "secret")));
+        verify(passwordEncoder, times(2)).matches(any(), anyString());
+    }
+
+    private static UsernamePasswordAuthenticationToken token(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
@@ -0,0 +1,107 @@
+package com.seowon.coding.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSheddingFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getRateLimit().setPermitsPerSecond(1);
+        properties.getRateLimit().setBurst(2);
+        properties.getRateLimit().setMaxClients(10);
+        properties.getConcurrency().setEnabled(false);
+        filter = new LoadSheddingFilter(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    void rateLimit_ShouldIgnoreClientSuppliedApiKey() throws ServletException, IOException {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, send(request("10.0.0.1", null, "key-" + i)));
+        }
+
+        assertEquals(429, send(request("10.0.0.1", null, "key-new")));
+        assertEquals(1, filter.clientCount());
+    }
+
+    @Test
+    void rateLimit_ShouldKeyOnPrincipal_WhenAuthenticated() throws ServletException, IOException {
+        assertEquals(200, send(request("10.0.0.1", "alice", null)));
+        assertEquals(200, send(request("10.0.0.1", "alice", null)));
+        assertEquals(429, send(request("10.0.0.1", "alice", null)));
+
+        assertEquals(200, send(request("10.0.0.1", "bob", null)));
+    }
+
+    @Test
+    void clients_ShouldStayBounded_UnderManyDistinctClients() throws ServletException, IOException {
+        for (int i = 0; i < 1000; i++) {
+            send(request("10.0." + (i / 256) + "." + (i % 256), null, null));
+        }
+
+        assertTrue(filter.clientCount() <= 10);
+    }
+
+    @Test
+    void concurrency_ShouldKeepReadLimit_WhenWritesAreSlow() throws ServletException, IOException {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getRateLimit().setEnabled(false);
+        LoadSheddingFilter limited = new LoadSheddingFilter(properties, new SimpleMeterRegistry(), clock::get);
+        long slow = properties.getConcurrency().getTargetLatency().toNanos() * 2;
+        long window = properties.getConcurrency().getBackoffWindow().toNanos();
+        MockHttpServletRequest read = request("10.0.0.1", null, null);
+
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletRequest write = new MockHttpServletRequest("POST", "/api/orders/checkout");
+            limited.doFilter(write, new MockHttpServletResponse(), (req, res) -> clock.addAndGet(slow + window));
+        }
+
+        assertEquals(4, limited.limiterFor(new MockHttpServletRequest("POST", "/api/orders/checkout")).getLimit());
+        assertEquals(20, limited.limiterFor(read).getLimit());
+    }
+
+    @Test
+    void concurrency_ShouldSkipBulkPaths() {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        LoadSheddingFilter limited = new LoadSheddingFilter(properties, new SimpleMeterRegistry(), clock::get);
+
+        assertNull(limited.limiterFor(new MockHttpServletRequest("POST", "/api/orders/batch")));
+        assertNull(limited.limiterFor(new MockHttpServletRequest("POST", "/api/orders/bulk-cancel")));
+        assertNull(limited.limiterFor(new MockHttpServletRequest("POST", "/api/products/bulk-price")));
+        assertNotNull(limited.limiterFor(new MockHttpServletRequest("POST", "/api/orders/checkout")));
+    }
+
+    private int send(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String user, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setRemoteAddr(remoteAddr);
+        if (user != null) {
+            Principal principal = () -> user;
+            request.setUserPrincipal(principal);
+        }
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,43 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PermissionSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionPropertiesTest {
+
+    @Test
+    void sourceFingerprint_ShouldMatchModelFingerprint_WithoutVersion() {
+        PermissionProperties properties = properties();
+
+        assertEquals(PermissionSnapshot.fingerprint(properties.toUsers(), properties.toGroups(), properties.toPolicies()),
+                properties.sourceFingerprint());
+    }
+
+    @Test
+    void sourceFingerprint_ShouldUseOnlyVersion_WhenSet() {
+        PermissionProperties properties = properties();
+        properties.setVersion("2026-10-19");
+        long versioned = properties.sourceFingerprint();
+
+        properties.getUsers().put("viewer", List.of("operators"));
+
+        assertEquals(versioned, properties.sourceFingerprint());
+        properties.setVersion("2026-10-20");
+        assertNotEquals(versioned, properties.sourceFingerprint());
+    }
+
+    private static PermissionProperties properties() {
+        PermissionProperties.StatementProperties statement = new PermissionProperties.StatementProperties();
+        statement.setActions(List.of("read", "write"));
+        statement.setResources(List.of("orders"));
+        PermissionProperties properties = new PermissionProperties();
+        properties.getUsers().put("admin", List.of("operators"));
+        properties.getGroups().put("operators", List.of("orders-full"));
+        properties.getPolicies().put("orders-full", List.of(statement));
+        return properties;
+    }
+}
@@ -0,0 +1,44 @@
+package com.seowon.coding.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingPropertiesTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(Config.class);
+
+    @Test
+    void shouldBind_ValidCoupons() {
+        runner.withPropertyValues("pricing.coupons[0].code=SALE", "pricing.coupons[0].prefix=true",
+                        "pricing.coupons[0].amount=10.00")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals("SALE", context.getBean(PricingProperties.class).getCoupons().get(0).getCode());
+                });
+    }
+
+    @Test
+    void shouldFailStartup_WhenCouponHasNoCode() {
+        runner.withPropertyValues("pricing.coupons[0].prefix=true", "pricing.coupons[0].amount=10.00")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void shouldFailStartup_WhenCouponAmountIsNegative() {
+        runner.withPropertyValues("pricing.coupons[0].code=SALE", "pricing.coupons[0].amount=-5")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(PricingProperties.class)
+    static class Config {
+    }
+}
@@ -0,0 +1,51 @@
+package com.seowon.coding.config.metrics;
+
+import com.seowon.coding.config.LatencyHistogramProperties;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramFilterTest {
+
+    private final LatencyHistogramFilter filter = new LatencyHistogramFilter(properties());
+
+    @Test
+    void configure_ShouldEnableHistogram_OnlyForSelectedUris() {
+        assertTrue(histogram(timer("http.server.requests", Tags.of("method", "POST", "uri", "/api/orders/checkout"))));
+        assertFalse(histogram(timer("http.server.requests", Tags.of("method", "GET", "uri", "/api/orders/{id}"))));
+    }
+
+    @Test
+    void configure_ShouldEnableHistogram_OnlyForSelectedServiceMethods() {
+        assertTrue(histogram(timer("service.method",
+                Tags.of("class", "com.seowon.coding.service.OrderService", "method", "checkoutOrder"))));
+        assertFalse(histogram(timer("service.method",
+                Tags.of("class", "com.seowon.coding.service.OrderService", "method", "getAllOrders"))));
+        assertFalse(histogram(timer("service.method", Tags.empty())));
+    }
+
+    @Test
+    void configure_ShouldLeaveOtherMetersUnchanged() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder().percentiles(0.99).build();
+
+        assertSame(config, filter.configure(timer("jvm.gc.pause", Tags.empty()), config));
+    }
+
+    private boolean histogram(Meter.Id id) {
+        return Boolean.TRUE.equals(filter.configure(id, DistributionStatisticConfig.NONE).isPercentileHistogram());
+    }
+
+    private static Meter.Id timer(String name, Tags tags) {
+        return new Meter.Id(name, tags, null, null, Meter.Type.TIMER);
+    }
+
+    private static LatencyHistogramProperties properties() {
+        LatencyHistogramProperties properties = new LatencyHistogramProperties();
+        properties.getUris().add("/api/orders/checkout");
+        properties.getServiceMethods().add("OrderService.checkoutOrder");
+        return properties;
+    }
+}
@@ -0,0 +1,27 @@
+package com.seowon.coding.config.metrics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트에서 블록 실행 중 발생한 SQL 문 수에 예산을 거는 assertion
+ * (같은 스레드에서 실행된 Hibernate 문만 집계됨)
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertStatementsAtMost(int budget, Supplier<T> action) {
+        RequestStatistics stats = RequestStatistics.begin();
+        try {
+            T result = action.get();
+            assertTrue(stats.getStatements() <= budget,
+                    "expected at most " + budget + " SQL statements but was " + stats.getStatements());
+            return result;
+        } finally {
+            RequestStatistics.end();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.seowon.coding.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingInspectorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementCountingInspector inspector = new StatementCountingInspector(meterRegistry, 0.0);
+
+    @AfterEach
+    void tearDown() {
+        RequestStatistics.end();
+    }
+
+    @Test
+    void inspect_ShouldCountStatementsPerRequest_AndGlobally() {
+        RequestStatistics stats = RequestStatistics.begin();
+
+        assertEquals("select 1", inspector.inspect("select 1"));
+        inspector.inspect("select 2");
+
+        assertEquals(2, stats.getStatements());
+        assertEquals(2.0, meterRegistry.get("db.statements").counter().count());
+    }
+
+    @Test
+    void inspect_ShouldOnlyCountGlobally_OutsideRequest() {
+        inspector.inspect("select 1");
+
+        assertNull(RequestStatistics.current());
+        assertEquals(1.0, meterRegistry.get("db.statements").counter().count());
+    }
+
+    @Test
+    void inspect_ShouldCountOnWorkerThread_WhenRequestStatisticsPropagated() throws Exception {
+        RequestStatistics stats = RequestStatistics.begin();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Executor propagating = task -> worker.execute(RequestStatistics.propagate(task));
+            CompletableFuture.runAsync(() -> inspector.inspect("select 1"), propagating).get();
+            CompletableFuture.runAsync(() -> assertNull(RequestStatistics.current()), worker).get();
+        } finally {
+            worker.shutdown();
+        }
+
+        assertEquals(1, stats.getStatements());
+    }
+}
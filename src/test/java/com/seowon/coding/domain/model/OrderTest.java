@@ -0,0 +1,103 @@
+package com.seowon.coding.domain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OrderTest {
+
+    @Test
+    void addItem_ShouldSumItemsSubtotal_ForManyLines() {
+        Order order = new Order();
+        BigDecimal expected = BigDecimal.ZERO;
+
+        for (int i = 1; i <= 5_000; i++) {
+            BigDecimal price = new BigDecimal(i).movePointLeft(2);
+            order.addItem(item(price, i % 7 + 1));
+            expected = expected.add(price.multiply(BigDecimal.valueOf(i % 7 + 1)));
+        }
+
+        assertEquals(0, expected.compareTo(order.getItemsSubtotal()));
+    }
+
+    @Test
+    void removeItem_ShouldSubtractOnlyRemovedLine() {
+        Order order = new Order();
+        OrderItem first = item(new BigDecimal("10.00"), 2);
+        OrderItem second = item(new BigDecimal("3.50"), 1);
+        order.addItem(first);
+        order.addItem(second);
+
+        order.removeItem(first);
+        order.removeItem(first);
+
+        assertEquals(new BigDecimal("3.50"), order.getItemsSubtotal());
+        assertNull(first.getOrder());
+    }
+
+    @Test
+    void addItem_ShouldNotOverwriteChargedTotal() {
+        List<OrderItem> items = new ArrayList<>(List.of(item(new BigDecimal("5.00"), 2)));
+        Order order = Order.builder()
+                .items(items)
+                .totalAmount(new BigDecimal("15.00"))
+                .build();
+
+        order.addItem(item(new BigDecimal("1.00"), 1));
+
+        assertEquals(new BigDecimal("11.00"), order.getItemsSubtotal());
+        assertEquals(new BigDecimal("15.00"), order.getTotalAmount());
+    }
+
+    @Test
+    void recalculateTotalAmount_ShouldChargeItemsSubtotal_IncludingDirectListChanges() {
+        Order order = new Order();
+        order.addItem(item(new BigDecimal("1.00"), 1));
+        order.getItems().add(item(new BigDecimal("2.00"), 1));
+
+        order.recalculateTotalAmount();
+
+        assertEquals(new BigDecimal("3.00"), order.getTotalAmount());
+    }
+
+    @Test
+    void setItems_ShouldResetRunningSubtotal() {
+        Order order = new Order();
+        order.addItem(item(new BigDecimal("4.00"), 1));
+
+        order.setItems(new ArrayList<>(List.of(item(new BigDecimal("2.00"), 3))));
+
+        assertEquals(new BigDecimal("6.00"), order.getItemsSubtotal());
+    }
+
+    @Test
+    void addItem_ShouldFailFast_WhenRunningSubtotalDrifted_InVerifyMode() {
+        assumeTrue(Boolean.getBoolean("orders.totals.verify"));
+        Order order = new Order();
+        OrderItem first = item(new BigDecimal("1.00"), 1);
+        order.addItem(first);
+        first.setQuantity(5);
+
+        assertThrows(IllegalStateException.class, () -> order.addItem(item(new BigDecimal("1.00"), 1)));
+    }
+
+    @Test
+    void itemsSubtotal_ShouldNotBeSerialized() throws Exception {
+        Order order = Order.builder().totalAmount(new BigDecimal("15.00")).build();
+
+        String json = new ObjectMapper().writeValueAsString(order);
+
+        assertTrue(json.contains("\"totalAmount\":15.00"));
+        assertFalse(json.contains("itemsSubtotal"));
+    }
+
+    private OrderItem item(BigDecimal price, int quantity) {
+        return OrderItem.builder().price(price).quantity(quantity).build();
+    }
+}
@@ -219,4 +219,20 @@ class PermissionCheckerTest {
         );
         assertFalse(result, "user1은 bucket6에서 s3:DeleteObject를 수행할 권한이 없어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @DisplayName("미리 만든 PermissionIndex 로 조회해도 목록 탐색과 같은 결과를 반환해야 합니다.")
+    @Test
+    void hasPermission_ShouldMatchListScan_WhenUsingPrebuiltIndex() {
+        PermissionIndex index = PermissionIndex.compile(users, groups, policies);
+        for (String userId : List.of("user1", "user2", "user4", "unknown")) {
+            for (String resource : List.of("bucket1", "bucket2", "bucket4", "bucket5", "instance123")) {
+                for (String action : List.of("s3:GetObject", "s3:PutObject", "ec2:StartInstance")) {
+                    assertEquals(
+                            PermissionChecker.hasPermission(userId, resource, action, users, groups, policies),
+                            PermissionChecker.hasPermission(userId, resource, action, index),
+                            userId + " " + action + " " + resource);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionExplainerTest {
+
+    private final List<User> users = List.of(
+            new User("admin", List.of("missing-group", "operators")),
+            new User("nobody", null),
+            new User("viewer", List.of("readers")));
+    private final List<UserGroup> groups = List.of(
+            new UserGroup("operators", List.of("orders-read", "orders-full")),
+            new UserGroup("readers", List.of("orders-read")));
+    private final List<Policy> policies = List.of(
+            new Policy("orders-read", List.of(Statement.builder()
+                    .actions(List.of("read")).resources(List.of("orders")).build())),
+            new Policy("orders-full", List.of(
+                    Statement.builder().actions(List.of("read")).resources(List.of("products")).build(),
+                    Statement.builder().actions(List.of("write")).resources(List.of("orders")).build())));
+
+    @Test
+    void explain_ShouldReturnFirstMatchingPath() {
+        PermissionDecision decision = PermissionChecker.explain("admin", "orders", "write", users, groups, policies);
+
+        assertTrue(decision.isAllowed());
+        assertEquals("operators", decision.getGroupId());
+        assertEquals("orders-full", decision.getPolicyId());
+        assertEquals(1, decision.getStatementIndex());
+        assertEquals("allow write on orders: user admin -> group operators -> policy orders-full -> statement #1",
+                decision.toString());
+    }
+
+    @Test
+    void explain_ShouldReportDenyReason() {
+        PermissionExplainer explainer = new PermissionExplainer(users, groups, policies);
+
+        assertEquals(PermissionDecision.DenyReason.UNKNOWN_USER,
+                explainer.explain("stranger", "read", "orders").getReason());
+        assertEquals(PermissionDecision.DenyReason.NO_GROUPS,
+                explainer.explain("nobody", "read", "orders").getReason());
+        assertEquals(PermissionDecision.DenyReason.NO_MATCHING_STATEMENT,
+                explainer.explain("viewer", "write", "orders").getReason());
+    }
+
+    @Test
+    void explain_ShouldAgreeWithIndex() {
+        PermissionIndex index = PermissionIndex.compile(users, groups, policies);
+        PermissionExplainer explainer = new PermissionExplainer(users, groups, policies);
+
+        for (String user : List.of("admin", "nobody", "viewer", "stranger")) {
+            for (String action : List.of("read", "write")) {
+                for (String resource : List.of("orders", "products")) {
+                    assertEquals(index.isAllowed(user, action, resource),
+                            PermissionChecker.explain(user, resource, action, explainer).isAllowed(),
+                            user + " " + action + " " + resource);
+                }
+            }
+        }
+    }
+}
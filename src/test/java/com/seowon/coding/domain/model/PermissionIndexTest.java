@@ -0,0 +1,123 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionIndexTest {
+
+    private PermissionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = PermissionIndex.compile(
+                List.of(
+                        new User("admin", List.of("operators")),
+                        new User("viewer", List.of("readers", "missing-group")),
+                        new User("nobody", null)),
+                List.of(
+                        new UserGroup("operators", List.of("orders-full", "products-read")),
+                        new UserGroup("readers", List.of("orders-read", "missing-policy"))),
+                List.of(
+                        new Policy("orders-full", List.of(Statement.builder()
+                                .actions(List.of("read", "write")).resources(List.of("orders")).build())),
+                        new Policy("orders-read", List.of(Statement.builder()
+                                .actions(List.of("read")).resources(List.of("orders")).build())),
+                        new Policy("products-read", List.of(Statement.builder()
+                                .actions(List.of("read")).resources(List.of("products")).build()))));
+    }
+
+    @Test
+    void isAllowed_ShouldMergeGrantsAcrossGroupsAndPolicies() {
+        assertTrue(index.isAllowed("admin", "write", "orders"));
+        assertTrue(index.isAllowed("admin", "read", "products"));
+        assertFalse(index.isAllowed("admin", "write", "products"));
+    }
+
+    @Test
+    void isAllowed_ShouldIgnoreUnknownGroupsAndPolicies() {
+        assertTrue(index.isAllowed("viewer", "read", "orders"));
+        assertFalse(index.isAllowed("viewer", "write", "orders"));
+    }
+
+    @Test
+    void isAllowed_ShouldDeny_WhenUserUnknownOrWithoutGroups() {
+        assertFalse(index.isAllowed("nobody", "read", "orders"));
+        assertFalse(index.isAllowed("stranger", "read", "orders"));
+        assertFalse(PermissionIndex.empty().isAllowed("admin", "read", "orders"));
+    }
+
+    @Test
+    void compile_ShouldShareGrantSets_AcrossUsersWithSameGrants() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(new User("user" + i, List.of(i % 2 == 0 ? "operators" : "readers")));
+        }
+        users.add(new User("both", List.of("readers", "operators")));
+        users.add(new User("both-again", List.of("operators", "readers")));
+
+        PermissionIndex shared = PermissionIndex.compile(users,
+                List.of(new UserGroup("operators", List.of("orders-full")), new UserGroup("readers", List.of("orders-read"))),
+                List.of(new Policy("orders-full", List.of(Statement.builder()
+                                .actions(List.of("read", "write")).resources(List.of("orders")).build())),
+                        new Policy("orders-read", List.of(Statement.builder()
+                                .actions(List.of("read")).resources(List.of("orders")).build()))));
+
+        assertEquals(1002, shared.userCount());
+        // 빈 집합 + operators + readers (both 는 operators 와 내용이 같음)
+        assertEquals(3, shared.grantSetCount());
+        assertTrue(shared.isAllowed("both-again", "write", "orders"));
+        assertFalse(shared.isAllowed("user1", "write", "orders"));
+    }
+
+    @Test
+    void compile_ShouldProduceSameDecisions_RegardlessOfParallelism() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            users.add(new User("user" + i, List.of("group" + (i % 7), "group" + (i % 3))));
+        }
+        List<UserGroup> groups = new ArrayList<>();
+        List<Policy> policies = new ArrayList<>();
+        for (int g = 0; g < 7; g++) {
+            groups.add(new UserGroup("group" + g, List.of("policy" + g)));
+            policies.add(new Policy("policy" + g, List.of(Statement.builder()
+                    .actions(List.of(g % 2 == 0 ? "read" : "write")).resources(List.of("resource" + g)).build())));
+        }
+
+        PermissionIndex sequential = PermissionIndex.compile(users, groups, policies, 1);
+        PermissionIndex parallel = PermissionIndex.compile(users, groups, policies, 4);
+
+        assertEquals(sequential.userCount(), parallel.userCount());
+        assertEquals(sequential.grantSetCount(), parallel.grantSetCount());
+        for (int i = 0; i < users.size(); i += 97) {
+            for (int g = 0; g < 7; g++) {
+                for (String action : List.of("read", "write")) {
+                    assertEquals(sequential.isAllowed("user" + i, action, "resource" + g),
+                            parallel.isAllowed("user" + i, action, "resource" + g));
+                }
+            }
+        }
+        assertTrue(parallel.isAllowed("user0", "read", "resource0"));
+        assertThrows(IllegalArgumentException.class, () -> PermissionIndex.compile(users, groups, policies, 0));
+    }
+
+    @Test
+    void compile_ShouldMergeGrants_WhenUserListedTwice() {
+        PermissionIndex merged = PermissionIndex.compile(
+                List.of(new User("admin", List.of("a")), new User("admin", List.of("b"))),
+                List.of(new UserGroup("a", List.of("p1")), new UserGroup("b", List.of("p2"))),
+                List.of(new Policy("p1", List.of(Statement.builder()
+                                .actions(List.of("read")).resources(List.of("orders")).build())),
+                        new Policy("p2", List.of(Statement.builder()
+                                .actions(List.of("write")).resources(List.of("products")).build()))));
+
+        assertEquals(1, merged.userCount());
+        assertTrue(merged.isAllowed("admin", "read", "orders"));
+        assertTrue(merged.isAllowed("admin", "write", "products"));
+        assertFalse(merged.isAllowed("admin", null, "orders"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private List<User> users;
+    private List<UserGroup> groups;
+    private List<Policy> policies;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() {
+        users = List.of(new User("admin", List.of("operators")), new User("viewer", List.of("readers")));
+        groups = List.of(
+                new UserGroup("operators", List.of("orders-full")),
+                new UserGroup("readers", List.of("orders-read")));
+        policies = List.of(
+                new Policy("orders-full", List.of(Statement.builder()
+                        .actions(List.of("read", "write")).resources(List.of("orders", "products")).build())),
+                new Policy("orders-read", List.of(Statement.builder()
+                        .actions(List.of("read")).resources(List.of("orders")).build())));
+        snapshot = dir.resolve("permissions.snapshot");
+    }
+
+    @Test
+    void read_ShouldRestoreSameDecisions_WhenFingerprintMatches() throws IOException {
+        long fingerprint = PermissionSnapshot.fingerprint(users, groups, policies);
+        PermissionSnapshot.write(PermissionIndex.compile(users, groups, policies), fingerprint, snapshot);
+
+        PermissionIndex loaded = PermissionSnapshot.read(snapshot, fingerprint).orElseThrow();
+
+        assertEquals(2, loaded.userCount());
+        assertTrue(loaded.isAllowed("admin", "write", "products"));
+        assertTrue(loaded.isAllowed("viewer", "read", "orders"));
+        assertFalse(loaded.isAllowed("viewer", "write", "orders"));
+    }
+
+    @Test
+    void read_ShouldServeLookupsFromMappedFile_AndRewrite() throws IOException {
+        List<User> mixed = List.of(new User("admin", List.of("operators")), new User("관리자", List.of("readers")));
+        long fingerprint = PermissionSnapshot.fingerprint(mixed, groups, policies);
+        PermissionSnapshot.write(PermissionIndex.compile(mixed, groups, policies), fingerprint, snapshot);
+        PermissionIndex loaded = PermissionSnapshot.read(snapshot, fingerprint).orElseThrow();
+
+        assertTrue(loaded.isAllowed("관리자", "read", "orders"));
+        assertFalse(loaded.isAllowed("관리자", "write", "orders"));
+        assertFalse(loaded.isAllowed("nobody", "read", "orders"));
+        assertFalse(loaded.isAllowed("admi", "read", "orders"));
+
+        Path copy = dir.resolve("copy.snapshot");
+        PermissionSnapshot.write(loaded, fingerprint, copy);
+        PermissionIndex reloaded = PermissionSnapshot.read(copy, fingerprint).orElseThrow();
+        assertEquals(2, reloaded.userCount());
+        assertTrue(reloaded.isAllowed("admin", "write", "products"));
+        assertTrue(reloaded.isAllowed("관리자", "read", "orders"));
+    }
+
+    @Test
+    void read_ShouldReturnEmpty_WhenMissingOrSourceChanged() throws IOException {
+        long fingerprint = PermissionSnapshot.fingerprint(users, groups, policies);
+        assertEquals(Optional.empty(), PermissionSnapshot.read(snapshot, fingerprint));
+
+        PermissionSnapshot.write(PermissionIndex.compile(users, groups, policies), fingerprint, snapshot);
+        long changed = PermissionSnapshot.fingerprint(
+                List.of(new User("admin", List.of("readers"))), groups, policies);
+
+        assertNotEquals(fingerprint, changed);
+        assertEquals(Optional.empty(), PermissionSnapshot.read(snapshot, changed));
+    }
+
+    @Test
+    void read_ShouldReturnEmpty_WhenVersionDiffers() throws IOException {
+        long fingerprint = PermissionSnapshot.fingerprint(users, groups, policies);
+        PermissionSnapshot.write(PermissionIndex.compile(users, groups, policies), fingerprint, snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        ByteBuffer.wrap(bytes).putInt(4, PermissionSnapshot.VERSION + 1);
+        Files.write(snapshot, bytes);
+
+        assertEquals(Optional.empty(), PermissionSnapshot.read(snapshot, fingerprint));
+    }
+
+    @Test
+    void read_ShouldReject_WhenPayloadCorrupted() throws IOException {
+        long fingerprint = PermissionSnapshot.fingerprint(users, groups, policies);
+        PermissionSnapshot.write(PermissionIndex.compile(users, groups, policies), fingerprint, snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 0x1;
+        Files.write(snapshot, bytes);
+
+        assertThrows(IllegalStateException.class, () -> PermissionSnapshot.read(snapshot, fingerprint));
+    }
+}
@@ -0,0 +1,97 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderBatchProperties;
+import com.seowon.coding.domain.dto.BatchOrderResultDTO;
+import com.seowon.coding.domain.dto.CheckoutRequestDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.stock.StockWriteBehindService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchOrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockWriteBehindService stockWriteBehind;
+
+    private BatchOrderService batchOrderService;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        OrderBatchProperties properties = new OrderBatchProperties();
+        properties.setMaxOrders(3);
+        batchOrderService = new BatchOrderService(orderRepository, productRepository, PricingEngine.defaults(), properties,
+                new SimpleMeterRegistry(), stockWriteBehind);
+
+        product1 = Product.builder().id(1L).name("P1").price(BigDecimal.valueOf(100)).stockQuantity(5).build();
+        product2 = Product.builder().id(2L).name("P2").price(BigDecimal.valueOf(50)).stockQuantity(1).build();
+    }
+
+    @Test
+    void createOrders_ShouldLoadProductsOnce_AndReturnPerOrderResults() {
+        when(productRepository.findAllByIdInForUpdate(any())).thenReturn(List.of(product1, product2));
+        AtomicLong ids = new AtomicLong(100);
+        when(orderRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Order> orders = inv.getArgument(0);
+            orders.forEach(o -> o.setId(ids.incrementAndGet()));
+            return orders;
+        });
+
+        List<BatchOrderResultDTO> results = batchOrderService.createOrders(List.of(
+                request(new OrderProduct(2L, 1), new OrderProduct(1L, 2)),
+                request(new OrderProduct(2L, 1)),
+                request(new OrderProduct(1L, 0))));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals(101L, results.get(0).getOrderId());
+        assertFalse(results.get(1).isCreated());
+        assertFalse(results.get(2).isCreated());
+        assertEquals(3, product1.getStockQuantity());
+        assertEquals(0, product2.getStockQuantity());
+
+        verify(productRepository, times(1)).findAllByIdInForUpdate(argThat((Collection<Long> c) ->
+                List.copyOf(c).equals(List.of(1L, 2L))));
+        verify(productRepository, never()).findById(any());
+        verify(orderRepository, times(1)).saveAll(argThat((List<Order> l) -> l.size() == 1));
+    }
+
+    @Test
+    void createOrders_ShouldReject_WhenTooManyOrders() {
+        CheckoutRequestDTO request = request(new OrderProduct(1L, 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> batchOrderService.createOrders(List.of(request, request, request, request)));
+        verifyNoInteractions(productRepository, orderRepository);
+    }
+
+    private static CheckoutRequestDTO request(OrderProduct... products) {
+        return new CheckoutRequestDTO("John", "john@example.com", List.of(products), null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.BulkCancelProperties;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import com.seowon.coding.service.stock.StockReturnService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCancelServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProcessingStatusRepository processingStatusRepository;
+
+    @Mock
+    private StockReturnService stockReturnService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkCancelService bulkCancelService;
+    private ProcessingStatus processingStatus;
+
+    @BeforeEach
+    void setUp() {
+        BulkCancelProperties properties = new BulkCancelProperties();
+        properties.setChunkSize(2);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // chunk 를 호출 스레드에서 바로 실행
+        bulkCancelService = new BulkCancelService(orderRepository, processingStatusRepository,
+                Runnable::run, transactionManager, properties, new SimpleMeterRegistry(), stockReturnService);
+        lenient().when(processingStatusRepository.save(any())).thenAnswer(inv -> {
+            processingStatus = inv.getArgument(0);
+            return processingStatus;
+        });
+        lenient().when(processingStatusRepository.findByJobId(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(processingStatus));
+    }
+
+    @Test
+    void start_ShouldCancelInChunks_AndReturnStockOfCancelledOrdersOnly() {
+        Order o1 = order(1L, Order.OrderStatus.PENDING);
+        Order o2 = order(2L, Order.OrderStatus.PROCESSING);
+        Order o3 = order(3L, Order.OrderStatus.SHIPPED);
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(o1, o2));
+        when(orderRepository.findAllByIdInForUpdate(List.of(3L))).thenReturn(List.of(o3));
+
+        bulkCancelService.start(List.of(1L, 2L, 3L, 2L));
+
+        assertEquals(Order.OrderStatus.CANCELLED, o1.getStatus());
+        assertEquals(Order.OrderStatus.CANCELLED, o2.getStatus());
+        assertEquals(Order.OrderStatus.SHIPPED, o3.getStatus());
+        InOrder flushThenRestore = inOrder(orderRepository, stockReturnService);
+        flushThenRestore.verify(orderRepository).saveAllAndFlush(List.of(o1, o2));
+        flushThenRestore.verify(stockReturnService).restore(List.of(1L, 2L));
+        verifyNoMoreInteractions(stockReturnService);
+        verify(processingStatusRepository).incrementProcessed(anyString(), eq(2), any());
+        verify(processingStatusRepository).incrementProcessed(anyString(), eq(1), any());
+        assertEquals(3, processingStatus.getTotal());
+        assertEquals(ProcessingStatus.Status.COMPLETED, processingStatus.getStatus());
+    }
+
+    @Test
+    void start_ShouldMarkJobFailed_WhenChunkFails() {
+        when(orderRepository.findAllByIdInForUpdate(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        bulkCancelService.start(List.of(1L));
+
+        assertEquals(ProcessingStatus.Status.FAILED, processingStatus.getStatus());
+    }
+
+    @Test
+    void start_ShouldReject_WhenNoOrders() {
+        assertThrows(IllegalArgumentException.class, () -> bulkCancelService.start(List.of()));
+        verifyNoInteractions(processingStatusRepository);
+    }
+
+    private static Order order(Long id, Order.OrderStatus status) {
+        return Order.builder().id(id).status(status).build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.IdempotencyProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService idempotencyService = new IdempotencyService(new IdempotencyProperties());
+
+    @Test
+    void execute_ShouldReturnStoredResult_WhenKeyReplayed() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Integer first = idempotencyService.execute("alice", "key-1", "req", calls::incrementAndGet);
+        Integer replay = idempotencyService.execute("alice", "key-1", "req", calls::incrementAndGet);
+
+        assertEquals(1, first);
+        assertEquals(1, replay);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldAlwaysRun_WhenKeyMissing() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("alice", null, "req", calls::incrementAndGet);
+        idempotencyService.execute("alice", null, "req", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_ShouldReject_WhenKeyReusedWithDifferentRequest() {
+        idempotencyService.execute("alice", "key-1", "req-a", () -> 1);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute("alice", "key-1", "req-b", () -> 2));
+    }
+
+    @Test
+    void execute_ShouldAllowRetry_WhenActionFails() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("alice", "key-1", "req", () -> {
+            throw new IllegalStateException("out of stock");
+        }));
+
+        assertEquals(2, idempotencyService.execute("alice", "key-1", "req", () -> 2));
+    }
+
+    @Test
+    void execute_ShouldRunOnce_WhenDuplicatesArriveConcurrently() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> owner = executor.submit(() -> idempotencyService.execute("alice", "key-1", "req", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            started.await();
+            Future<Integer> duplicate = executor.submit(() -> idempotencyService.execute("alice", "key-1", "req", calls::incrementAndGet));
+            release.countDown();
+
+            assertEquals(1, owner.get());
+            assertEquals(1, duplicate.get());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldNotShareKeys_AcrossPrincipals() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("alice", "key-1", "req", calls::incrementAndGet);
+        Integer other = idempotencyService.execute("bob", "key-1", "req", calls::incrementAndGet);
+
+        assertEquals(2, other);
+        assertDoesNotThrow(() -> idempotencyService.execute("bob", "key-2", "req-b", () -> 3));
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute("alice", "key-1", "req-b", () -> 3));
+    }
+
+    @Test
+    void execute_ShouldKeepInFlightKey_WhenCompletedKeysExceedMaxKeys() throws Exception {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaxKeys(1);
+        IdempotencyService small = new IdempotencyService(properties);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> owner = executor.submit(() -> small.execute("alice", "slow", "req", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            started.await();
+            for (int i = 0; i < 10; i++) {
+                small.execute("alice", "fast-" + i, "req", () -> 0);
+            }
+            // 실행 중인 키가 남아 있으면 다른 내용의 재사용은 기다리지 않고 바로 거부됨
+            assertThrows(IdempotencyKeyReusedException.class,
+                    () -> small.execute("alice", "slow", "other", calls::incrementAndGet));
+            assertTrue(small.size() <= 2);
+            release.countDown();
+
+            assertEquals(1, owner.get());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeAsync_ShouldReturnInFlightResult_WithoutRunningDuplicate() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Integer> inFlight = new CompletableFuture<>();
+
+        CompletableFuture<Integer> owner = idempotencyService.executeAsync("alice", "key-1", "req", () -> {
+            calls.incrementAndGet();
+            return inFlight;
+        });
+        // 첫 요청이 끝나기 전에 반환됨 (호출 thread 가 기다리지 않음)
+        CompletableFuture<Integer> duplicate = idempotencyService.executeAsync("alice", "key-1", "req", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        assertFalse(duplicate.isDone());
+
+        inFlight.complete(1);
+
+        assertEquals(1, owner.join());
+        assertEquals(1, duplicate.join());
+        assertEquals(1, calls.get());
+        assertEquals(1, idempotencyService.execute("alice", "key-1", "req", () -> 3));
+    }
+
+    @Test
+    void executeAsync_ShouldAllowRetry_WhenActionFails() {
+        CompletableFuture<Integer> failed = idempotencyService.executeAsync("alice", "key-1", "req",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("out of stock")));
+
+        CompletionException error = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(2, idempotencyService.executeAsync("alice", "key-1", "req",
+                () -> CompletableFuture.completedFuture(2)).join());
+    }
+
+    @Test
+    void executeAsync_ShouldFailDuplicate_WhenWaitTimeoutElapses() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofMillis(10));
+        IdempotencyService shortWait = new IdempotencyService(properties);
+        CompletableFuture<Integer> inFlight = new CompletableFuture<>();
+        shortWait.executeAsync("alice", "key-1", "req", () -> inFlight);
+
+        CompletableFuture<Integer> duplicate = shortWait.executeAsync("alice", "key-1", "req",
+                () -> CompletableFuture.completedFuture(2));
+        CompletionException error = assertThrows(CompletionException.class, duplicate::join);
+
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        // 첫 요청의 future 는 timeout 의 영향을 받지 않음
+        assertFalse(inFlight.isDone());
+        CompletionException reused = assertThrows(CompletionException.class, () -> shortWait.executeAsync(
+                "alice", "key-1", "other", () -> CompletableFuture.completedFuture(3)).join());
+        assertInstanceOf(IdempotencyKeyReusedException.class, reused.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.seowon.coding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.config.OrderAnalyticsProperties;
+import com.seowon.coding.config.OutboxProperties;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderRevisedEvent;
+import com.seowon.coding.domain.model.OrderRollup;
+import com.seowon.coding.domain.model.OrderRollupCheckpoint;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.OrderRollupCheckpointRepository;
+import com.seowon.coding.domain.repository.OrderRollupRepository;
+import com.seowon.coding.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAnalyticsServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderRollupCheckpointRepository checkpointRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderAnalyticsService orderAnalyticsService;
+
+    private final LocalDateTime orderDate = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    @BeforeEach
+    void setUp() {
+        orderAnalyticsService = new OrderAnalyticsService(orderRepository, archivedOrderRepository, orderRollupRepository,
+                checkpointRepository, outboxEventRepository, new ObjectMapper(), new OrderAnalyticsProperties(),
+                new OutboxProperties(), transactionManager);
+    }
+
+    @Test
+    void flush_ShouldCoalesceEventsIntoOneUpdatePerBucket() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(1);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.flush();
+
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.DAY, orderDate.toLocalDate().atStartOfDay(),
+                Order.OrderStatus.PENDING, 2, new BigDecimal("100.00"));
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.HOUR, orderDate.withMinute(0),
+                Order.OrderStatus.PENDING, 2, new BigDecimal("100.00"));
+        verifyNoMoreInteractions(orderRollupRepository);
+    }
+
+    @Test
+    void flush_ShouldRecordCheckpoint_WithAppliedDeltas() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(1);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+        LocalDateTime before = LocalDateTime.now();
+
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.flush();
+
+        ArgumentCaptor<OrderRollupCheckpoint> checkpoint = ArgumentCaptor.forClass(OrderRollupCheckpoint.class);
+        verify(checkpointRepository).save(checkpoint.capture());
+        assertEquals(OrderRollupCheckpoint.ID, checkpoint.getValue().getId());
+        assertFalse(checkpoint.getValue().getFlushedAt().isBefore(before));
+    }
+
+    @Test
+    void stop_ShouldFlushPendingDeltas() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(1);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.stop();
+
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.DAY, orderDate.toLocalDate().atStartOfDay(),
+                Order.OrderStatus.PENDING, 1, new BigDecimal("50.00"));
+    }
+
+    @Test
+    void recover_ShouldRebuildDaysOfOrderEventsSinceCheckpoint() {
+        LocalDateTime flushedAt = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime movedDate = orderDate.plusDays(3);
+        when(checkpointRepository.findById(OrderRollupCheckpoint.ID))
+                .thenReturn(Optional.of(new OrderRollupCheckpoint(OrderRollupCheckpoint.ID, flushedAt)));
+        when(outboxEventRepository.findPayloadsCreatedSince("Order", flushedAt.minusMinutes(5))).thenReturn(List.of(
+                "{\"orderId\":1,\"status\":\"PROCESSING\",\"orderDate\":\"" + orderDate + "\"}",
+                "{\"orderId\":2,\"previousOrderDate\":\"" + orderDate + "\",\"orderDate\":\"" + movedDate + "\"}",
+                "{\"orderId\":3,\"previousOrderDate\":\"" + movedDate + "\",\"orderDate\":null}"));
+        when(orderRepository.streamSummariesByOrderDateRange(any(), any())).thenAnswer(invocation -> Stream.empty());
+        when(archivedOrderRepository.streamSummariesByOrderDateRange(any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        orderAnalyticsService.recover();
+
+        LocalDateTime day = orderDate.toLocalDate().atStartOfDay();
+        LocalDateTime movedDay = movedDate.toLocalDate().atStartOfDay();
+        verify(orderRollupRepository).deleteByBucketStartRange(day, day.plusDays(1));
+        verify(orderRollupRepository).deleteByBucketStartRange(movedDay, movedDay.plusDays(1));
+        verify(orderRollupRepository, times(2)).deleteByBucketStartRange(any(), any());
+    }
+
+    @Test
+    void recover_ShouldDoNothing_WhenNeverFlushed() {
+        when(checkpointRepository.findById(OrderRollupCheckpoint.ID)).thenReturn(Optional.empty());
+
+        orderAnalyticsService.recover();
+
+        verifyNoInteractions(outboxEventRepository, orderRollupRepository);
+    }
+
+    @Test
+    void flush_ShouldMoveOrderBetweenStatusBuckets_WhenStatusChanges() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(1);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+
+        orderAnalyticsService.onOrderStatusChanged(
+                new OrderStatusChangedEvent(order, Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING));
+        orderAnalyticsService.flush();
+
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.DAY, orderDate.toLocalDate().atStartOfDay(),
+                Order.OrderStatus.PENDING, -1, new BigDecimal("-50.00"));
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.DAY, orderDate.toLocalDate().atStartOfDay(),
+                Order.OrderStatus.PROCESSING, 1, new BigDecimal("50.00"));
+    }
+
+    @Test
+    void flush_ShouldInsertBucket_WhenRowDoesNotExist() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(0);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.flush();
+
+        verify(orderRollupRepository, times(2)).saveAndFlush(any(OrderRollup.class));
+    }
+
+    @Test
+    void flush_ShouldMoveOrderBetweenBuckets_WhenOrderIsRevisedOrDeleted() {
+        when(orderRollupRepository.increment(any(), any(), any(), anyLong(), any())).thenReturn(1);
+        LocalDateTime movedDate = orderDate.plusDays(1);
+        OrderSummaryDTO before = new OrderSummaryDTO(1L, Order.OrderStatus.PENDING, orderDate, new BigDecimal("50.00"));
+        OrderSummaryDTO after = new OrderSummaryDTO(1L, Order.OrderStatus.DELIVERED, movedDate, new BigDecimal("70.00"));
+
+        orderAnalyticsService.onOrderRevised(new OrderRevisedEvent(before, after));
+        orderAnalyticsService.onOrderRevised(new OrderRevisedEvent(after, null));
+        orderAnalyticsService.flush();
+
+        verify(orderRollupRepository).increment(OrderRollup.Granularity.DAY, orderDate.toLocalDate().atStartOfDay(),
+                Order.OrderStatus.PENDING, -1, new BigDecimal("-50.00"));
+        verify(orderRollupRepository, never()).increment(eq(OrderRollup.Granularity.DAY),
+                eq(movedDate.toLocalDate().atStartOfDay()), eq(Order.OrderStatus.DELIVERED), anyLong(), any());
+    }
+
+    @Test
+    void rebuild_ShouldDropPendingDeltasOfRebuiltRange() {
+        LocalDateTime from = orderDate.toLocalDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        Order order = Order.builder().orderDate(orderDate).totalAmount(new BigDecimal("50.00")).build();
+        when(orderRepository.streamSummariesByOrderDateRange(from, to)).thenReturn(Stream.of(
+                new OrderSummaryDTO(1L, Order.OrderStatus.PENDING, orderDate, new BigDecimal("50.00"))));
+        when(archivedOrderRepository.streamSummariesByOrderDateRange(from, to)).thenReturn(Stream.empty());
+
+        // 재계산 스냅샷에 이미 포함된 주문의 변경분
+        orderAnalyticsService.onOrderStatusChanged(new OrderStatusChangedEvent(order, null, Order.OrderStatus.PENDING));
+        orderAnalyticsService.rebuild(from, to);
+        orderAnalyticsService.flush();
+
+        verify(orderRollupRepository, never()).increment(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldIncludeArchivedOrders() {
+        LocalDateTime from = orderDate.toLocalDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        when(orderRepository.streamSummariesByOrderDateRange(from, to)).thenReturn(Stream.of(
+                new OrderSummaryDTO(1L, Order.OrderStatus.DELIVERED, orderDate, new BigDecimal("50.00"))));
+        when(archivedOrderRepository.streamSummariesByOrderDateRange(from, to)).thenReturn(Stream.of(
+                new OrderSummaryDTO(2L, Order.OrderStatus.DELIVERED, orderDate, new BigDecimal("30.00"))));
+
+        orderAnalyticsService.rebuild(from, to);
+
+        ArgumentCaptor<List<OrderRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRollupRepository).deleteByBucketStartRange(from, to);
+        verify(orderRollupRepository).saveAll(saved.capture());
+        OrderRollup day = saved.getValue().stream()
+                .filter(r -> r.getGranularity() == OrderRollup.Granularity.DAY)
+                .findFirst().orElseThrow();
+        assertEquals(2, day.getOrderCount());
+        assertEquals(new BigDecimal("80.00"), day.getRevenue());
+    }
+}
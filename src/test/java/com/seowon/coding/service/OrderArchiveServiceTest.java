@@ -0,0 +1,143 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderHistoryDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 공유 DB 의 오래된 종료 주문까지 아카이브하므로 다른 테스트와 context 를 공유하지 않음
+@SpringBootTest
+@DirtiesContext
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderHistoryService orderHistoryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private String email;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        email = "archive-" + UUID.randomUUID() + "@example.com";
+        product = productRepository.save(Product.builder()
+                .name("Archived Product")
+                .price(BigDecimal.TEN)
+                .stockQuantity(100)
+                .category("Archive")
+                .build());
+    }
+
+    @Test
+    void archiveBatch_ShouldMoveOnlyOldTerminalOrders() {
+        Long oldDelivered = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(200));
+        Long oldPending = saveOrder(Order.OrderStatus.PENDING, now.minusDays(200));
+        Long recentCancelled = saveOrder(Order.OrderStatus.CANCELLED, now.minusDays(1));
+
+        assertTrue(orderArchiveService.archiveBatch(now) >= 1);
+
+        assertFalse(orderRepository.existsById(oldDelivered));
+        assertTrue(archivedOrderRepository.existsById(oldDelivered));
+        assertTrue(orderRepository.existsById(oldPending));
+        assertTrue(orderRepository.existsById(recentCancelled));
+        assertFalse(archivedOrderRepository.existsById(recentCancelled));
+    }
+
+    @Test
+    void getOrderById_ShouldReturnArchivedOrderWithItems() {
+        Long id = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(200));
+        orderArchiveService.archiveBatch(now);
+
+        Optional<Order> order = orderService.getOrderById(id);
+
+        assertTrue(order.isPresent());
+        assertEquals(Order.OrderStatus.DELIVERED, order.get().getStatus());
+        assertEquals(1, order.get().getItems().size());
+        assertEquals(product.getId(), order.get().getItems().get(0).getProduct().getId());
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(order.get().getTotalAmount()));
+    }
+
+    @Test
+    void getOrdersByStatusAndBetween_ShouldIncludeArchivedOrders() {
+        Long archived = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(200));
+        Long recent = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(1));
+        orderArchiveService.archiveBatch(now);
+
+        List<Long> delivered = orderService.getOrdersByStatus(Order.OrderStatus.DELIVERED).stream()
+                .map(Order::getId).toList();
+        assertTrue(delivered.containsAll(List.of(archived, recent)));
+
+        List<Long> between = orderService.getOrdersBetween(now.minusDays(201), now.minusDays(199)).stream()
+                .filter(o -> email.equals(o.getCustomerEmail()))
+                .map(Order::getId).toList();
+        assertEquals(List.of(archived), between);
+    }
+
+    @Test
+    void getHistory_ShouldMergeArchivedOrdersAcrossPages() {
+        Long recent = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(1));
+        Long oldPending = saveOrder(Order.OrderStatus.PENDING, now.minusDays(200));
+        Long archived = saveOrder(Order.OrderStatus.DELIVERED, now.minusDays(210));
+        orderArchiveService.archiveBatch(now);
+
+        OrderHistoryDTO first = orderHistoryService.getHistory(email, 2, null, null);
+        assertEquals(List.of(recent, oldPending), ids(first));
+        assertEquals(oldPending, first.getNextId());
+
+        OrderHistoryDTO second = orderHistoryService.getHistory(email, 2, first.getNextOrderDate(), first.getNextId());
+        assertEquals(List.of(archived), ids(second));
+        assertNull(second.getNextId());
+    }
+
+    private Long saveOrder(Order.OrderStatus status, LocalDateTime orderDate) {
+        Order order = Order.builder()
+                .customerName("Archive Customer")
+                .customerEmail(email)
+                .status(status)
+                .orderDate(orderDate)
+                .build();
+        order.addItem(OrderItem.builder()
+                .product(product)
+                .quantity(2)
+                .price(BigDecimal.TEN)
+                .build());
+        order.recalculateTotalAmount();
+        return orderRepository.save(order).getId();
+    }
+
+    private static List<Long> ids(OrderHistoryDTO page) {
+        return page.getOrders().stream().map(OrderSummaryDTO::getId).toList();
+    }
+}
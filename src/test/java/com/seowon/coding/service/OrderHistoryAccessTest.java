@@ -0,0 +1,56 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.config.OrderHistoryProperties;
+import com.seowon.coding.config.PermissionProperties;
+import com.seowon.coding.domain.model.PermissionIndex;
+import com.seowon.coding.domain.model.Policy;
+import com.seowon.coding.domain.model.Statement;
+import com.seowon.coding.domain.model.User;
+import com.seowon.coding.domain.model.UserGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderHistoryAccessTest {
+
+    private OrderHistoryAccess access;
+
+    @BeforeEach
+    void setUp() {
+        PermissionIndex index = PermissionIndex.compile(
+                List.of(new User("admin", List.of("operators")), new User("alice", List.of("customers"))),
+                List.of(new UserGroup("operators", List.of("orders-admin")),
+                        new UserGroup("customers", List.of("orders-full"))),
+                List.of(new Policy("orders-admin", List.of(Statement.builder()
+                                .actions(List.of("read", "admin")).resources(List.of("orders")).build())),
+                        new Policy("orders-full", List.of(Statement.builder()
+                                .actions(List.of("read", "write")).resources(List.of("orders")).build()))));
+        OrderHistoryProperties properties = new OrderHistoryProperties();
+        properties.getCustomerEmails().put("alice", "alice@example.com");
+        PermissionProperties permissionProperties = new PermissionProperties();
+        permissionProperties.setEnabled(true);
+        access = new OrderHistoryAccess(properties, permissionProperties, index);
+    }
+
+    @Test
+    void resolveCustomerEmail_ShouldUseMappedEmail_ForOwnHistory() {
+        assertEquals(Optional.of("alice@example.com"), access.resolveCustomerEmail("alice", null));
+        assertEquals(Optional.of("alice@example.com"), access.resolveCustomerEmail("alice", "ALICE@example.com"));
+        assertEquals(Optional.of("bob@example.com"), access.resolveCustomerEmail("bob@example.com", null));
+    }
+
+    @Test
+    void resolveCustomerEmail_ShouldDeny_WhenNonAdminAsksForAnotherCustomer() {
+        assertEquals(Optional.empty(), access.resolveCustomerEmail("alice", "bob@example.com"));
+        assertEquals(Optional.empty(), access.resolveCustomerEmail("bob@example.com", "alice@example.com"));
+    }
+
+    @Test
+    void resolveCustomerEmail_ShouldAllowOrderAdmin_ToQueryAnyCustomer() {
+        assertEquals(Optional.of("bob@example.com"), access.resolveCustomerEmail("admin", "bob@example.com"));
+    }
+}
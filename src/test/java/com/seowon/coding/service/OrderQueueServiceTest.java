@@ -0,0 +1,159 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderClaimDTO;
+import com.seowon.coding.domain.dto.OrderSummaryDTO;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class OrderQueueServiceTest {
+
+    // 다른 테스트의 주문보다 먼저 배정되도록 아주 오래된 주문으로 생성
+    private static final LocalDateTime OLD = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderQueueService orderQueueService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setUp() {
+        first = saveOrder(OLD);
+        second = saveOrder(OLD.plusMinutes(1));
+    }
+
+    @Test
+    void claim_ShouldAssignOldestOrders_AndNotHandThemOutTwice() {
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 2, Duration.ofMinutes(1));
+        assertEquals(List.of(first, second), ids(claim));
+
+        OrderClaimDTO other = orderQueueService.claim(Order.OrderStatus.PENDING, 2, Duration.ofMinutes(1));
+        assertFalse(ids(other).contains(first));
+        assertFalse(ids(other).contains(second));
+    }
+
+    @Test
+    void claim_ShouldReassign_AfterLeaseExpires() {
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+        expireLease(first);
+
+        OrderClaimDTO reclaimed = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+
+        assertEquals(List.of(first), ids(reclaimed));
+        assertNotEquals(claim.getClaimToken(), reclaimed.getClaimToken());
+    }
+
+    @Test
+    void complete_ShouldTransitionAndClearClaim() {
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+
+        Order completed = orderQueueService.complete(first, claim.getClaimToken(), Order.OrderStatus.PROCESSING)
+                .orElseThrow();
+
+        assertEquals(Order.OrderStatus.PROCESSING, completed.getStatus());
+        assertNull(completed.getClaimToken());
+        assertNull(completed.getClaimedUntil());
+    }
+
+    @Test
+    void complete_ShouldReturnStock_WhenCancelled() {
+        Product product = productRepository.save(Product.builder()
+                .name("Queue Product")
+                .price(BigDecimal.TEN)
+                .stockQuantity(3)
+                .category("Queue")
+                .build());
+        Order order = orderRepository.findById(first).orElseThrow();
+        order.addItem(OrderItem.builder().product(product).quantity(2).price(BigDecimal.TEN).build());
+        orderRepository.saveAndFlush(order);
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+
+        orderQueueService.complete(first, claim.getClaimToken(), Order.OrderStatus.CANCELLED);
+
+        assertEquals(5, jdbcTemplate.queryForObject("select stock_quantity from product where id = ?",
+                Integer.class, product.getId()));
+    }
+
+    @Test
+    void complete_ShouldRejectStaleToken_AfterLeaseWasReclaimed() {
+        OrderClaimDTO stale = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+        expireLease(first);
+        OrderClaimDTO current = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class,
+                () -> orderQueueService.complete(first, stale.getClaimToken(), Order.OrderStatus.CANCELLED));
+
+        Order order = orderRepository.findById(first).orElseThrow();
+        assertEquals(Order.OrderStatus.PENDING, order.getStatus());
+        assertEquals(current.getClaimToken(), order.getClaimToken());
+    }
+
+    @Test
+    void complete_ShouldRejectExpiredLease_EvenWithoutReclaim() {
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+        expireLease(first);
+
+        assertThrows(IllegalStateException.class,
+                () -> orderQueueService.complete(first, claim.getClaimToken(), Order.OrderStatus.PROCESSING));
+    }
+
+    @Test
+    void complete_ShouldRejectInvalidTransition() {
+        OrderClaimDTO claim = orderQueueService.claim(Order.OrderStatus.PENDING, 1, Duration.ofMinutes(1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> orderQueueService.complete(first, claim.getClaimToken(), Order.OrderStatus.DELIVERED));
+        assertEquals(Order.OrderStatus.PENDING, orderRepository.findById(first).orElseThrow().getStatus());
+    }
+
+    @Test
+    void complete_ShouldReturnEmpty_WhenOrderDoesNotExist() {
+        assertTrue(orderQueueService.complete(-1L, "token", Order.OrderStatus.PROCESSING).isEmpty());
+    }
+
+    private Long saveOrder(LocalDateTime orderDate) {
+        return orderRepository.save(Order.builder()
+                .customerName("Queue Customer")
+                .customerEmail("queue@example.com")
+                .status(Order.OrderStatus.PENDING)
+                .orderDate(orderDate)
+                .totalAmount(BigDecimal.TEN)
+                .build()).getId();
+    }
+
+    private void expireLease(Long orderId) {
+        jdbcTemplate.update("update orders set claimed_until = ? where id = ?",
+                LocalDateTime.now().minusSeconds(1), orderId);
+    }
+
+    private static List<Long> ids(OrderClaimDTO claim) {
+        return claim.getOrders().stream().map(OrderSummaryDTO::getId).toList();
+    }
+}
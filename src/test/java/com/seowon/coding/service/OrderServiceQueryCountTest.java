@@ -0,0 +1,106 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.seowon.coding.config.metrics.QueryCountAssertions.assertStatementsAtMost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 생성/조회의 SQL 문 수가 주문 상품 수에 비례하지 않는지 확인 (N+1 회귀 방지)
+ * 측정 구간에서 커밋(flush)까지 세야 하므로 @Transactional 대신 테스트가 만든 주문/상품을 직접 삭제
+ */
+@SpringBootTest
+class OrderServiceQueryCountTest {
+
+    // 상품 일괄 조회 + sequence + orders/order_item insert + 재고 update batch + outbox insert
+    private static final int CHECKOUT_BUDGET = 12;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private List<Product> products;
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Product> newProducts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            newProducts.add(Product.builder()
+                    .name("Budget Product " + i)
+                    .price(BigDecimal.valueOf(10 + i))
+                    .stockQuantity(1000)
+                    .category(i % 2 == 0 ? "Books" : "Electronics")
+                    .build());
+        }
+        products = productRepository.saveAll(newProducts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 주문 통계/이력 캐시도 함께 정리되도록 서비스를 통해 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            orderIds.forEach(orderService::deleteOrder);
+            productRepository.deleteAllById(products.stream().map(Product::getId).toList());
+        });
+    }
+
+    @Test
+    void checkoutOrder_WithFiftyLines_ShouldStayWithinStatementBudget() {
+        List<OrderProduct> lines = products.stream().map(p -> new OrderProduct(p.getId(), 1)).toList();
+
+        Order order = assertStatementsAtMost(CHECKOUT_BUDGET, () -> transactionTemplate.execute(status ->
+                orderService.checkoutOrder("John Doe", "john@example.com", lines, null)));
+        orderIds.add(order.getId());
+
+        assertEquals(50, order.getItems().size());
+    }
+
+    @Test
+    void placeOrder_WithFiftyLines_ShouldStayWithinStatementBudget() {
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        List<Integer> quantities = ids.stream().map(id -> 2).toList();
+
+        Order order = assertStatementsAtMost(CHECKOUT_BUDGET, () -> transactionTemplate.execute(status ->
+                orderService.placeOrder("John Doe", "john@example.com", ids, quantities)));
+        orderIds.add(order.getId());
+
+        assertEquals(50, order.getItems().size());
+    }
+
+    @Test
+    void getAllOrders_ShouldFetchItemsWithoutPerOrderQueries() {
+        List<Long> ids = products.stream().limit(3).map(Product::getId).toList();
+        for (int i = 0; i < 5; i++) {
+            orderIds.add(transactionTemplate.execute(status ->
+                    orderService.placeOrder("John Doe", "john@example.com", ids, List.of(1, 1, 1))).getId());
+        }
+
+        int items = assertStatementsAtMost(2, () -> transactionTemplate.execute(status ->
+                orderService.getAllOrders().stream()
+                        .mapToInt(o -> o.getItems().stream().mapToInt(i -> i.getProduct().getName().length()).sum())
+                        .sum()));
+
+        assertTrue(items > 0);
+    }
+}
@@ -1,16 +1,27 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.model.ArchivedOrder;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.OrderRevisedEvent;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ArchivedOrderRepository;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.stock.StockReturnService;
+import com.seowon.coding.service.stock.StockWriteBehindService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,6 +42,27 @@ class OrderServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private OrderHistoryService orderHistoryService;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private StockWriteBehindService stockWriteBehind;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StockReturnService stockReturnService;
+
+    @Spy
+    private PricingEngine pricingEngine = PricingEngine.defaults();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private OrderService orderService;
 
@@ -112,28 +144,83 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getOrderById_ShouldFallBackToArchive_WhenNotInOrders() {
+        ArchivedOrder archived = mock(ArchivedOrder.class);
+        when(archived.toOrder()).thenReturn(order1);
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findWithItemsById(1L)).thenReturn(Optional.of(archived));
+
+        Optional<Order> order = orderService.getOrderById(1L);
+
+        assertTrue(order.isPresent());
+        assertEquals("John Doe", order.get().getCustomerName());
+    }
+
     @Test
     void updateOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         Order updated = orderService.updateOrder(1L, order1);
 
         assertNotNull(updated);
         assertEquals("John Doe", updated.getCustomerName());
-        verify(orderRepository, times(1)).existsById(1L);
+        verify(orderRepository, times(1)).findById(1L);
         verify(orderRepository, times(1)).save(order1);
+        verify(eventPublisher).publishEvent(any(OrderRevisedEvent.class));
+    }
+
+    @Test
+    void updateOrder_ShouldKeepActiveLease() {
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+        Order existing = Order.builder().id(1L).customerName("John Doe").status(Order.OrderStatus.PENDING)
+                .claimToken("worker-1").claimedUntil(until).build();
+        Order body = Order.builder().customerName("Jane Doe").status(Order.OrderStatus.PENDING).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order updated = orderService.updateOrder(1L, body);
+
+        assertEquals("Jane Doe", updated.getCustomerName());
+        assertEquals("worker-1", updated.getClaimToken());
+        assertEquals(until, updated.getClaimedUntil());
+    }
+
+    @Test
+    void updateOrder_ShouldReturnStock_WhenStatusBecomesCancelled() {
+        Order cancelled = Order.builder().customerName("John Doe").status(Order.OrderStatus.CANCELLED).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
+        when(orderRepository.save(any(Order.class))).thenReturn(cancelled);
+
+        orderService.updateOrder(1L, cancelled);
+
+        verify(stockReturnService).restore(List.of(1L));
+    }
+
+    @Test
+    void updateOrder_ShouldRejectReopeningCancelledOrder() {
+        order1.cancel();
+        Order reopened = Order.builder().customerName("John Doe").status(Order.OrderStatus.PENDING).build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
+
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrder(1L, reopened));
+        verify(orderRepository, never()).save(any());
+        verifyNoInteractions(stockReturnService);
     }
 
     @Test
     void deleteOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(orderRepository).deleteById(1L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
 
         orderService.deleteOrder(1L);
 
-        verify(orderRepository, times(1)).existsById(1L);
-        verify(orderRepository, times(1)).deleteById(1L);
+        verify(orderRepository, times(1)).delete(order1);
+        verify(orderHistoryService).evict(order1.getCustomerEmail());
+        ArgumentCaptor<OrderRevisedEvent> event = ArgumentCaptor.forClass(OrderRevisedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(order1.getStatus(), event.getValue().getPrevious().getStatus());
+        assertNull(event.getValue().getCurrent());
     }
 
     @Test
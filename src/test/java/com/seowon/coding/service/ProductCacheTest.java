@@ -0,0 +1,110 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProductCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productId = productRepository.save(Product.builder()
+                .name("Cached Product")
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .category("Cache")
+                .build()).getId();
+        productCacheService.evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_ShouldHitSecondLevelCache_OnRepeatedLoads() {
+        productRepository.findById(productId);
+        productRepository.findById(productId);
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void evict_ShouldForceReloadFromDatabase() {
+        productRepository.findById(productId);
+        productCacheService.evict(productId);
+        productRepository.findById(productId);
+
+        assertEquals(0, statistics.getSecondLevelCacheHitCount());
+        assertEquals(2, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void decreaseStock_ShouldRejectLostUpdate_WhenStockChangedConcurrently() throws Exception {
+        // 두 트랜잭션이 같은 재고(10)를 읽은 상황: 먼저 커밋한 쪽만 반영되어야 함
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch otherCommitted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Product product = productRepository.findById(productId).orElseThrow();
+                loaded.countDown();
+                await(otherCommitted);
+                product.decreaseStock(3);
+            }));
+            loaded.await();
+            transactionTemplate.executeWithoutResult(status ->
+                    productRepository.findById(productId).orElseThrow().decreaseStock(3));
+            otherCommitted.countDown();
+
+            ExecutionException e = assertThrows(ExecutionException.class, slow::get);
+            assertInstanceOf(ObjectOptimisticLockingFailureException.class, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
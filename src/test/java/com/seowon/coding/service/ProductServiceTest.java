@@ -2,11 +2,15 @@ package com.seowon.coding.service;
 
 import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.CartQuoteService;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.stock.StockWriteBehindService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -24,6 +28,15 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CartQuoteService cartQuoteService;
+
+    @Mock
+    private StockWriteBehindService stockWriteBehind;
+
+    @Spy
+    private PricingEngine pricingEngine = PricingEngine.defaults();
+
     @InjectMocks
     private ProductService productService;
 
@@ -119,4 +132,39 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findByCategory("Electronics");
     }
 
+    @Test
+    void applyBulkPriceChange() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+
+        productService.applyBulkPriceChange(List.of(1L, 2L), 10L, false);
+
+        assertEquals(new BigDecimal("110.00"), product1.getPrice());
+        assertEquals(new BigDecimal("220.00"), product2.getPrice());
+        verify(productRepository, times(1)).saveAll(List.of(product1, product2));
+        verify(pricingEngine, never()).applyVat(any());
+        verify(cartQuoteService).invalidate();
+    }
+
+    @Test
+    void applyBulkPriceChange_WithTax() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        productService.applyBulkPriceChange(List.of(1L), 10L, true);
+
+        // 100.00 * 1.10 (인상) * 1.10 (VAT)
+        assertEquals(new BigDecimal("121.00"), product1.getPrice());
+        verify(pricingEngine, times(1)).applyVat(any());
+    }
+
+    @Test
+    void applyBulkPriceChange_ShouldNotSave_WhenProductIsMissing() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.applyBulkPriceChange(List.of(1L, 3L), 10L, false));
+        verify(productRepository, never()).saveAll(any());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.seowon.coding.service.outbox;
+
+import com.seowon.coding.config.OutboxProperties;
+import com.seowon.coding.domain.model.OutboxEvent;
+import com.seowon.coding.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxSink sink;
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryOutboxSink();
+        properties = new OutboxProperties();
+        properties.getRelay().setBatchSize(2);
+        relay = new OutboxRelay(outboxEventRepository, List.of(sink), properties, transactionManager);
+    }
+
+    @Test
+    void relay_ShouldPublishBatchesUntilOutboxIsDrained() {
+        stubClaim(List.of(event(1L), event(2L)), List.of(event(3L)));
+
+        relay.relay();
+
+        assertEquals(List.of(1L, 2L, 3L), sink.getPublished().stream().map(OutboxEvent::getId).toList());
+        verify(outboxEventRepository).claim(eq(List.of(1L, 2L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(outboxEventRepository).claim(eq(List.of(3L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(outboxEventRepository, times(2)).markPublished(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void relay_ShouldPublishAfterClaimTransactionCommits() {
+        List<String> calls = new ArrayList<>();
+        doAnswer(invocation -> calls.add("commit")).when(transactionManager).commit(any());
+        OutboxSink recordingSink = events -> calls.add("publish");
+        relay = new OutboxRelay(outboxEventRepository, List.of(recordingSink), properties, transactionManager);
+        stubClaim(List.of(event(1L)));
+
+        relay.relayBatch();
+
+        // claim 커밋 -> sink 발행 -> 발행 완료 표시 커밋
+        assertEquals(List.of("commit", "publish", "commit"), calls);
+    }
+
+    @Test
+    void relay_ShouldReleaseClaim_AndNotMarkPublished_WhenSinkFails() {
+        OutboxSink failingSink = events -> {
+            throw new IllegalStateException("broker unavailable");
+        };
+        relay = new OutboxRelay(outboxEventRepository, List.of(failingSink), properties, transactionManager);
+        stubClaim(List.of(event(1L)));
+
+        relay.relay();
+
+        verify(outboxEventRepository).release(anyString());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    void relay_ShouldDoNothing_WhenDisabled() {
+        properties.getRelay().setEnabled(false);
+
+        relay.relay();
+
+        verifyNoInteractions(outboxEventRepository);
+        assertTrue(sink.getPublished().isEmpty());
+    }
+
+    @SafeVarargs
+    private void stubClaim(List<OutboxEvent> first, List<OutboxEvent>... rest) {
+        when(outboxEventRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(first, rest);
+        when(outboxEventRepository.findByClaimToken(anyString())).thenReturn(first, rest);
+        when(outboxEventRepository.claim(anyList(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Order")
+                .aggregateId(String.valueOf(id))
+                .eventType("OrderPlaced")
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
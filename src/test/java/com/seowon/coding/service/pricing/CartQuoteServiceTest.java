@@ -0,0 +1,76 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.config.PricingProperties;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartQuoteServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CartQuoteService cartQuoteService;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        cartQuoteService = new CartQuoteService(productRepository, PricingEngine.defaults(), new PricingProperties());
+        product1 = Product.builder().id(1L).price(new BigDecimal("30.00")).build();
+        product2 = Product.builder().id(2L).price(new BigDecimal("50.00")).build();
+    }
+
+    @Test
+    void quote_ShouldMemoizeNormalizedCart() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+
+        Quote first = cartQuoteService.quote(List.of(new OrderProduct(2L, 1), new OrderProduct(1L, 1), new OrderProduct(1L, 1)), "SALE");
+        Quote second = cartQuoteService.quote(List.of(new OrderProduct(1L, 2), new OrderProduct(2L, 1)), " SALE ");
+
+        assertSame(first, second);
+        assertEquals(new BigDecimal("100.00"), first.getTotal());
+        verify(productRepository, times(1)).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    void quote_ShouldReloadPrices_AfterInvalidate() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1));
+        cartQuoteService.quote(List.of(new OrderProduct(1L, 1)), null);
+
+        product1.setPrice(new BigDecimal("40.00"));
+        cartQuoteService.invalidate();
+        Quote quote = cartQuoteService.quote(List.of(new OrderProduct(1L, 1)), null);
+
+        assertEquals(new BigDecimal("45.00"), quote.getTotal());
+        verify(productRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void quote_ShouldThrow_WhenProductMissing() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> cartQuoteService.quote(List.of(new OrderProduct(9L, 1)), null));
+    }
+
+    @Test
+    void quote_ShouldRejectNonPositiveQuantity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cartQuoteService.quote(List.of(new OrderProduct(1L, 0)), null));
+        verifyNoInteractions(productRepository);
+    }
+}
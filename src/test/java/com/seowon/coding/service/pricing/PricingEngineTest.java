@@ -0,0 +1,100 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.config.PricingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+
+    private final PricingEngine engine = PricingEngine.defaults();
+
+    @Test
+    void quote_ShouldChargeShipping_WhenSubtotalBelowThreshold() {
+        Quote quote = engine.quote(new Cart(List.of(line("30.00", 2, null)), null));
+
+        assertEquals(new BigDecimal("60.00"), quote.getSubtotal());
+        assertEquals(new BigDecimal("5.00"), quote.getShipping());
+        assertEquals(new BigDecimal("65.00"), quote.getTotal());
+    }
+
+    @Test
+    void quote_ShouldApplySalePrefixCouponAndFreeShipping() {
+        Quote quote = engine.quote(new Cart(List.of(line("100.00", 2, null), line("200.00", 1, null)), "SALE2025"));
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(quote.getShipping()));
+        assertEquals(new BigDecimal("10.00"), quote.getDiscount());
+        assertEquals(new BigDecimal("390.00"), quote.getTotal());
+    }
+
+    @Test
+    void quote_ShouldTrimCouponCode_LikeQuoteDoes() {
+        Quote padded = engine.quote(new Cart(List.of(line("100.00", 2, null)), " SALE10 "));
+        Quote trimmed = engine.quote(new Cart(List.of(line("100.00", 2, null)), "SALE10"));
+
+        assertEquals(trimmed.getDiscount(), padded.getDiscount());
+        assertEquals(0, new BigDecimal("10.00").compareTo(padded.getDiscount()));
+        assertNull(new Cart(List.of(), "  ").getCouponCode());
+    }
+
+    @Test
+    void quote_ShouldIgnoreUnknownCoupon() {
+        Quote quote = engine.quote(new Cart(List.of(line("100.00", 1, null)), "WELCOME"));
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(quote.getDiscount()));
+        assertEquals(new BigDecimal("100.00"), quote.getTotal());
+    }
+
+    @Test
+    void quote_ShouldNotDiscountBelowZero() {
+        Quote quote = engine.quote(new Cart(List.of(line("4.00", 1, null)), "SALE"));
+
+        assertEquals(new BigDecimal("4.00"), quote.getDiscount());
+        assertEquals(new BigDecimal("5.00"), quote.getTotal());
+    }
+
+    @Test
+    void quote_ShouldApplyExactCouponPromotionAndTax() {
+        PricingProperties properties = new PricingProperties();
+        PricingProperties.Coupon coupon = new PricingProperties.Coupon();
+        coupon.setCode("WELCOME5");
+        coupon.setAmount(new BigDecimal("5.00"));
+        properties.getCoupons().add(coupon);
+        PricingProperties.Promotion promotion = new PricingProperties.Promotion();
+        promotion.setCategory("Books");
+        promotion.setPercent(new BigDecimal("10"));
+        properties.getPromotions().add(promotion);
+        properties.setTaxRate(new BigDecimal("0.10"));
+        PricingEngine configured = PricingEngine.from(properties);
+
+        Quote quote = configured.quote(new Cart(List.of(line("50.00", 1, "Books"), line("50.00", 1, "Electronics")), "WELCOME5"));
+
+        // 100.00 - (5.00 promotion + 5.00 coupon) = 90.00, tax 9.00, free shipping
+        assertEquals(new BigDecimal("10.00"), quote.getDiscount());
+        assertEquals(new BigDecimal("9.00"), quote.getTax());
+        assertEquals(new BigDecimal("99.00"), quote.getTotal());
+    }
+
+    @Test
+    void quoteAll_ShouldQuoteEveryCart() {
+        List<Quote> quotes = engine.quoteAll(List.of(
+                new Cart(List.of(line("10.00", 1, null)), null),
+                new Cart(List.of(line("100.00", 1, null)), null)));
+
+        assertEquals(2, quotes.size());
+        assertEquals(new BigDecimal("15.00"), quotes.get(0).getTotal());
+        assertEquals(new BigDecimal("100.00"), quotes.get(1).getTotal());
+    }
+
+    @Test
+    void applyVat_ShouldUseConfiguredRate() {
+        assertEquals(0, new BigDecimal("110.00").compareTo(engine.applyVat(new BigDecimal("100.00"))));
+    }
+
+    private PricingLine line(String price, int quantity, String category) {
+        return new PricingLine(new BigDecimal(price), quantity, category);
+    }
+}
@@ -0,0 +1,87 @@
+package com.seowon.coding.service.stock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockDeltaLogTest {
+
+    private static final LongPredicate ALL = txId -> true;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_ShouldSumDeltasPerProduct_AndRotateToNextSegment() throws IOException {
+        try (StockDeltaLog log = new StockDeltaLog(dir, false)) {
+            log.open(7);
+            assertTrue(log.isEmpty());
+            log.append(1, Map.of(1L, -2L, 2L, -1L));
+            log.append(2, Map.of(1L, 5L));
+
+            assertEquals(7, log.rotate());
+            assertTrue(log.isEmpty());
+            log.append(3, Map.of(3L, -4L));
+
+            assertEquals(List.of(7L, 8L), List.copyOf(log.segments().keySet()));
+            assertEquals(Map.of(1L, 3L, 2L, -1L), StockDeltaLog.read(log.segments().get(7L), ALL));
+            assertEquals(Map.of(3L, -4L), StockDeltaLog.read(log.segments().get(8L), ALL));
+        }
+    }
+
+    @Test
+    void read_ShouldIgnoreTornLastRecord() throws IOException {
+        Path segment;
+        try (StockDeltaLog log = new StockDeltaLog(dir, true)) {
+            log.open(1);
+            log.append(1, Map.of(1L, -2L));
+            log.append(2, Map.of(1L, -3L));
+            segment = log.segments().get(1L);
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3), StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertEquals(Map.of(1L, -2L), StockDeltaLog.read(segment, ALL));
+    }
+
+    @Test
+    void read_ShouldStopAtCorruptRecord() throws IOException {
+        Path segment;
+        try (StockDeltaLog log = new StockDeltaLog(dir, false)) {
+            log.open(1);
+            log.append(1, Map.of(1L, -2L));
+            log.append(2, Map.of(1L, -3L));
+            segment = log.segments().get(1L);
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[StockDeltaLog.RECORD_BYTES + 10] ^= 1;
+        Files.write(segment, bytes);
+
+        assertEquals(Map.of(1L, -2L), StockDeltaLog.read(segment, ALL));
+    }
+
+    @Test
+    void read_ShouldSkipRecordsOfUncommittedTransactions() throws IOException {
+        Path segment;
+        try (StockDeltaLog log = new StockDeltaLog(dir, false)) {
+            log.open(1);
+            log.append(1, Map.of(1L, -2L));
+            log.append(2, Map.of(1L, -3L, 2L, -1L));
+            log.append(3, Map.of(2L, -4L));
+            segment = log.segments().get(1L);
+        }
+
+        assertEquals(Map.of(1L, -2L, 2L, -4L), StockDeltaLog.read(segment, Set.of(1L, 3L)::contains));
+    }
+}
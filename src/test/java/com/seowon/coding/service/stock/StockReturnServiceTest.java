@@ -0,0 +1,77 @@
+package com.seowon.coding.service.stock;
+
+import com.seowon.coding.domain.dto.ProductQuantityDTO;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.service.ProductCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReturnServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StockWriteBehindService stockWriteBehind;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StockReturnService stockReturnService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(orderRepository.sumQuantitiesByProduct(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProductQuantityDTO(10L, 5L), new ProductQuantityDTO(11L, 1L)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void restore_ShouldBatchUpdateOncePerProduct_AndEvictOnlyThoseProducts() {
+        stockReturnService.restore(List.of(1L, 2L));
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertArrayEquals(new Object[]{5L, 10L}, args.getValue().get(0));
+        assertArrayEquals(new Object[]{1L, 11L}, args.getValue().get(1));
+        verify(productCacheService).evict(List.of(10L, 11L));
+        verify(productCacheService, never()).evictAll();
+    }
+
+    @Test
+    void restore_ShouldReleaseToLedger_WhenWriteBehindIsEnabled() {
+        when(stockWriteBehind.isEnabled()).thenReturn(true);
+
+        stockReturnService.restore(List.of(1L, 2L));
+
+        verify(stockWriteBehind).release(10L, 5);
+        verify(stockWriteBehind).release(11L, 1);
+        verifyNoInteractions(jdbcTemplate, productCacheService);
+    }
+
+    @Test
+    void restore_ShouldDoNothing_WhenOrdersHaveNoItems() {
+        when(orderRepository.sumQuantitiesByProduct(List.of(3L))).thenReturn(List.of());
+
+        stockReturnService.restore(List.of(3L));
+
+        verifyNoInteractions(stockWriteBehind, jdbcTemplate, productCacheService);
+    }
+}
@@ -0,0 +1,207 @@
+package com.seowon.coding.service.stock;
+
+import com.seowon.coding.config.StockWriteBehindProperties;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.domain.repository.StockFlushCheckpointRepository;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.ProductCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "stock.write-behind.enabled=true",
+        "stock.write-behind.flush-interval-ms=3600000"
+})
+class StockWriteBehindServiceTest {
+
+    @TempDir
+    static Path logDir;
+
+    @DynamicPropertySource
+    static void logDir(DynamicPropertyRegistry registry) {
+        registry.add("stock.write-behind.log-dir", () -> logDir.toString());
+    }
+
+    @Autowired
+    private StockWriteBehindService stockWriteBehind;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockFlushCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder()
+                .name("Bestseller")
+                .price(BigDecimal.TEN)
+                .stockQuantity(5)
+                .category("Stock")
+                .build());
+    }
+
+    @Test
+    void placeOrder_ShouldReserveInMemory_AndApplyAggregatedDeltaOnFlush() {
+        orderService.placeOrder("Kim", "kim@example.com", List.of(product.getId()), List.of(2));
+        orderService.placeOrder("Lee", "lee@example.com", List.of(product.getId()), List.of(1));
+
+        assertEquals(5, dbStock());
+        assertThrows(IllegalStateException.class,
+                () -> orderService.placeOrder("Park", "park@example.com", List.of(product.getId()), List.of(3)));
+
+        stockWriteBehind.flush();
+
+        assertEquals(2, dbStock());
+        assertTrue(checkpointRepository.findMaxSegment().isPresent());
+        assertEquals(2, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void tryReserve_ShouldReleaseReservation_WhenTransactionRollsBack() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            assertTrue(stockWriteBehind.tryReserve(product.getId(), 5));
+            status.setRollbackOnly();
+        });
+
+        Boolean reserved = tx.execute(status -> stockWriteBehind.tryReserve(product.getId(), 5));
+
+        assertTrue(reserved);
+        stockWriteBehind.flush();
+        assertEquals(0, dbStock());
+    }
+
+    @Test
+    void cancelOrder_ShouldReturnStockThroughLedger() {
+        Order order = orderService.placeOrder("Kim", "kim@example.com", List.of(product.getId()), List.of(5));
+        orderService.cancelOrder(order.getId());
+
+        orderService.placeOrder("Lee", "lee@example.com", List.of(product.getId()), List.of(5));
+        stockWriteBehind.flush();
+
+        assertEquals(0, dbStock());
+    }
+
+    @Test
+    void invalidate_ShouldReloadBaseline_AfterDirectUpdate() {
+        orderService.placeOrder("Kim", "kim@example.com", List.of(product.getId()), List.of(5));
+        stockWriteBehind.flush();
+
+        jdbcTemplate.update("update product set stock_quantity = 3 where id = ?", product.getId());
+        stockWriteBehind.invalidate(product.getId());
+
+        orderService.placeOrder("Lee", "lee@example.com", List.of(product.getId()), List.of(3));
+        stockWriteBehind.flush();
+        assertEquals(0, dbStock());
+    }
+
+    @Test
+    void start_ShouldReplayUncheckpointedSegment_AndSkipCheckpointedOne(@TempDir Path replayDir) throws IOException {
+        long segment = checkpointRepository.findMaxSegment().orElse(0L) + 100;
+        try (StockDeltaLog log = new StockDeltaLog(replayDir, false)) {
+            log.open(segment);
+            log.append(txId(segment, 1), Map.of(product.getId(), -2L));
+        }
+        markCommitted(segment, 1);
+        StockWriteBehindProperties properties = new StockWriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setLogDir(replayDir.toString());
+        StockWriteBehindService restarted = newService(properties);
+
+        restarted.start();
+        restarted.stop();
+
+        assertEquals(3, dbStock());
+        assertTrue(checkpointRepository.existsById(segment));
+        assertFalse(Files.exists(replayDir.resolve("stock-delta-" + segment + ".log")));
+        assertEquals(0, commitMarkers(segment));
+
+        // 반영 후 파일 삭제 전에 종료된 경우: 같은 segment 를 다시 재생하지 않음
+        try (StockDeltaLog log = new StockDeltaLog(replayDir, false)) {
+            log.open(segment);
+            log.append(txId(segment, 1), Map.of(product.getId(), -2L));
+        }
+        StockWriteBehindService again = newService(properties);
+        again.start();
+        again.stop();
+
+        assertEquals(3, dbStock());
+    }
+
+    @Test
+    void start_ShouldSkipRecordsOfTransactionsThatNeverCommitted(@TempDir Path replayDir) throws IOException {
+        long segment = checkpointRepository.findMaxSegment().orElse(0L) + 200;
+        try (StockDeltaLog log = new StockDeltaLog(replayDir, false)) {
+            log.open(segment);
+            log.append(txId(segment, 1), Map.of(product.getId(), -1L));
+            // 로그 기록 후 DB 커밋 전에 종료된 트랜잭션 (커밋 표시 없음)
+            log.append(txId(segment, 2), Map.of(product.getId(), -4L));
+        }
+        markCommitted(segment, 1);
+        StockWriteBehindProperties properties = new StockWriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setLogDir(replayDir.toString());
+        StockWriteBehindService restarted = newService(properties);
+
+        restarted.start();
+        restarted.stop();
+
+        assertEquals(4, dbStock());
+    }
+
+    private StockWriteBehindService newService(StockWriteBehindProperties properties) {
+        return new StockWriteBehindService(productRepository, checkpointRepository, productCacheService, jdbcTemplate,
+                properties, new SimpleMeterRegistry(), transactionManager);
+    }
+
+    private void markCommitted(long segment, long sequence) {
+        jdbcTemplate.update("insert into stock_delta_commit (tx_id, segment) values (?, ?)", txId(segment, sequence), segment);
+    }
+
+    private int commitMarkers(long segment) {
+        return jdbcTemplate.queryForObject("select count(*) from stock_delta_commit where segment = ?", Integer.class, segment);
+    }
+
+    private static long txId(long segment, long sequence) {
+        return (segment << 32) | sequence;
+    }
+
+    private int dbStock() {
+        return jdbcTemplate.queryForObject("select stock_quantity from product where id = ?", Integer.class, product.getId());
+    }
+}
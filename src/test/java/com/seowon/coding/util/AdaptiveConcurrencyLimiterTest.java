@@ -0,0 +1,76 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TARGET = 100;
+    private static final long WINDOW = 1_000;
+
+    @Test
+    void tryAcquire_ShouldReject_WhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, TARGET, 0.5, WINDOW);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void release_ShouldDecreaseLimit_WhenLatencyExceedsTarget() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, TARGET, 0.5, WINDOW);
+
+        limiter.tryAcquire();
+        limiter.release(TARGET + 1, 0);
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 1; i <= 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(TARGET * 10, i * WINDOW);
+        }
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_ShouldDecreaseLimitOncePerWindow_WhenSlowResponsesArriveTogether() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, TARGET, 0.5, WINDOW);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.release(TARGET * 10, 10 + i);
+        }
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+
+        limiter.tryAcquire();
+        limiter.release(TARGET * 10, 10 + WINDOW);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_ShouldIncreaseLimitGradually_WhenFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 5, TARGET, 0.5, WINDOW);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.release(TARGET / 2, i);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(TARGET / 2, 4);
+        assertEquals(5, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(TARGET / 2, 5 + i);
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+}
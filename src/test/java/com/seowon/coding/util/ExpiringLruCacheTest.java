@@ -0,0 +1,58 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void get_ShouldReturnValue_BeforeTtlExpires() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(1), now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void get_ShouldReturnNull_AfterTtlExpires() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(1), now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(1), now::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void invalidate_ShouldRemoveEntry() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(1), now::get);
+        cache.put("a", 1);
+
+        cache.invalidate("a");
+
+        assertNull(cache.get("a"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void tryAcquire_ShouldAllowBurst_ThenReject() {
+        RateLimiter limiter = new RateLimiter(10, 3, 0);
+
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(0));
+
+        long wait = limiter.tryAcquire(0);
+        assertEquals(SECOND / 10, wait);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        RateLimiter limiter = new RateLimiter(10, 1, 0);
+        assertEquals(0, limiter.tryAcquire(0));
+        assertTrue(limiter.tryAcquire(SECOND / 20) > 0);
+
+        assertEquals(0, limiter.tryAcquire(SECOND / 10));
+    }
+
+    @Test
+    void isIdle_ShouldBeTrue_OnceBucketRefilled() {
+        RateLimiter limiter = new RateLimiter(10, 5, 0);
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        assertFalse(limiter.isIdle(SECOND / 10));
+        assertTrue(limiter.isIdle(SECOND / 5));
+    }
+}